@@ -1,38 +1,68 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.ActivityLogCursor;
+import com.example.backend.dto.ActivityLogFilter;
 import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.user.User;
 import com.example.backend.service.ActivityLogService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api")
 public class ActivityController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ActivityLogService activityLogService;
 
     public ActivityController(ActivityLogService activityLogService) {
         this.activityLogService = activityLogService;
     }
 
+    // 응답 본문은 JSON 배열(한 페이지, limit 건 이하), 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서 전달
     @GetMapping("/projects/{projectId}/activitylog")
     public ResponseEntity<List<ActivityLogResponse>> getActivityLogs(
             @PathVariable Long projectId,
+            @RequestParam(required = false) Set<ActivityLogType> type,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
             @AuthenticationPrincipal User currentUser) {
 
-        List<ActivityLogResponse> activities = activityLogService.getActivityLogsForProject(projectId, currentUser);
-        return ResponseEntity.ok(activities);
+        ActivityLogFilter filter = ActivityLogFilter.builder()
+                .types(type)
+                .actorId(actorId)
+                .from(from)
+                .to(to)
+                .cursor(cursor != null && !cursor.isBlank() ? ActivityLogCursor.parse(cursor) : null)
+                .limit(limit)
+                .build();
+        List<ActivityLogResponse> activities = activityLogService.getActivityLogsForProject(projectId, filter, currentUser);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (activities.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, ActivityLogCursor.of(activities.get(activities.size() - 1)).toString());
+        }
+        return response.body(activities);
     }
+
     @GetMapping("/dashboard/activitylog")
     public ResponseEntity<List<ActivityLogResponse>> getRecentActivityLogs(@AuthenticationPrincipal User currentUser) {
         List<ActivityLogResponse> recentActivities = activityLogService.getRecentActivityLogsForUser(currentUser, 5);
         return ResponseEntity.ok(recentActivities);
     }
-}
\ No newline at end of file
+}
@@ -64,6 +64,41 @@ public class ProjectController {
         }
     }
 
+    //프로젝트 요약 목록 (카드용: 업무/멤버 목록 없이 상태별 업무 수와 멤버 수)
+    @GetMapping("/summary")
+    public ResponseEntity<?> getMyProjectSummaries(@AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("프로젝트 목록을 조회하려면 로그인이 필요합니다.");
+        }
+        try {
+            List<ProjectSummaryResponse> summaries = projectService.getMyProjectSummaries(currentUser);
+            return ResponseEntity.ok(summaries);
+        } catch (Exception e) {
+            logger.error("프로젝트 요약 목록 조회 중 오류 발생 | 요청자: {}", currentUser.getEmail(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("프로젝트 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    //프로젝트 통계 (상태/우선순위별 수, 마감 지남, 이번 주 마감, 멤버별 진행 중 업무)
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<?> getProjectStats(@PathVariable Long projectId,
+                                             @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("프로젝트를 조회하려면 로그인이 필요합니다.");
+        }
+        try {
+            ProjectStatsResponse stats = projectService.getProjectStats(projectId, currentUser);
+            return ResponseEntity.ok(stats);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("프로젝트 통계 조회 중 오류 발생 | 프로젝트 ID: {}, 요청자: {}", projectId, currentUser.getEmail(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("프로젝트 통계 조회 중 오류가 발생했습니다.");
+        }
+    }
+
     //프로젝트 상세 조회
     @GetMapping("/{projectId}")
     public ResponseEntity<?> getProjectById(
@@ -1,19 +1,39 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.ArchivedTaskCursor;
+import com.example.backend.dto.ArchivedTaskPageResponse;
+import com.example.backend.dto.BoardColumnResponse;
+import com.example.backend.dto.BulkTaskRequest;
+import com.example.backend.dto.BulkTaskResponse;
+import com.example.backend.dto.BoardResponse;
+import com.example.backend.dto.MyTaskPageResponse;
+import com.example.backend.dto.TaskCursor;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskPageResponse;
 import com.example.backend.dto.TaskRequest;
 import com.example.backend.dto.TaskResponse;
+import com.example.backend.dto.TaskSort;
 import com.example.backend.dto.TaskStatusUpdateRequest;
+import com.example.backend.dto.UserWorkloadResponse;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+import com.example.backend.service.TaskArchiveService;
+import com.example.backend.service.TaskBulkService;
 import com.example.backend.service.TaskService;
+import com.example.backend.service.UserWorkloadService;
 import com.example.backend.entity.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +44,9 @@ public class TaskController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskArchiveService taskArchiveService;
+    private final UserWorkloadService userWorkloadService;
 
     //업무 생성
     @PostMapping("/projects/{projectId}/tasks")
@@ -48,16 +71,62 @@ public class TaskController {
         }
     }
 
-    //업무 조회
+    //업무 일괄 작업 (상태/담당자/우선순위/마감일 변경, 삭제)
+    @PostMapping("/projects/{projectId}/tasks/bulk")
+    public ResponseEntity<?> bulkUpdateTasks(@PathVariable Long projectId,
+                                             @Valid @RequestBody BulkTaskRequest request,
+                                             @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            BulkTaskResponse response = taskBulkService.apply(projectId, request, currentUser);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("업무 일괄 작업 중 서버 오류 발생 | 프로젝트 ID: {}, 작업: {}", projectId, request.getOperation(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("업무 일괄 작업 중 오류가 발생했습니다.");
+        }
+    }
+
+    //업무 조회 (필터: status, assigneeId, unassigned, priority, dueFrom, dueTo / 정렬: sort=dueDate,asc 여러 개 / 커서: cursor, limit)
     @GetMapping("/projects/{projectId}/tasks")
     public ResponseEntity<?> getTasksByProjectId(@PathVariable Long projectId,
+                                                 @RequestParam(required = false) Set<Status> status,
+                                                 @RequestParam(required = false) Long assigneeId,
+                                                 @RequestParam(defaultValue = "false") boolean unassigned,
+                                                 @RequestParam(required = false) Set<TaskPriority> priority,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                                                 @RequestParam(required = false) List<String> sort,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") int limit,
                                                  @AuthenticationPrincipal User currentUser) {
         if (currentUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
         try {
-            List<TaskResponse> tasks = taskService.getTasksByProjectId(projectId, currentUser);
-            return ResponseEntity.ok(tasks);
+            List<TaskSort> sorts = TaskSort.parse(sort);
+            TaskFilter filter = TaskFilter.builder()
+                    .statuses(status)
+                    .assigneeId(assigneeId)
+                    .unassigned(unassigned)
+                    .priorities(priority)
+                    .dueFrom(dueFrom)
+                    .dueTo(dueTo)
+                    .sort(sorts)
+                    .cursor(cursor != null && !cursor.isBlank() ? TaskCursor.parse(cursor, sorts) : null)
+                    .limit(limit)
+                    .build();
+            TaskPageResponse page = taskService.getTasksByProjectId(projectId, filter, currentUser);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (EntityNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (AccessDeniedException e) {
@@ -68,6 +137,147 @@ public class TaskController {
         }
     }
 
+    //내 업무 조회 (수락한 모든 프로젝트, 필터: status, dueFrom, dueTo / 커서: cursor, limit)
+    @GetMapping("/me/tasks")
+    public ResponseEntity<?> getMyTasks(@RequestParam(required = false) Set<Status> status,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "50") int limit,
+                                        @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            TaskFilter filter = TaskFilter.builder()
+                    .statuses(status)
+                    .dueFrom(dueFrom)
+                    .dueTo(dueTo)
+                    .sort(TaskSort.BY_DUE_DATE)
+                    .cursor(cursor != null && !cursor.isBlank() ? TaskCursor.parse(cursor, TaskSort.BY_DUE_DATE) : null)
+                    .limit(limit)
+                    .build();
+            MyTaskPageResponse page = taskService.getMyTasks(filter, currentUser);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("내 업무 조회 중 서버 오류 발생 | 사용자: {}", currentUser.getEmail(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("업무 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    //내 업무량 조회 (대시보드: 할당된 업무, 마감 지남, 오늘 마감, 이번 주 완료)
+    @GetMapping("/me/workload")
+    public ResponseEntity<?> getMyWorkload(@AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            UserWorkloadResponse workload = userWorkloadService.getWorkload(currentUser);
+            return ResponseEntity.ok(workload);
+        } catch (Exception e) {
+            logger.error("내 업무량 조회 중 서버 오류 발생 | 사용자: {}", currentUser.getEmail(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("업무량 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    //칸반 보드 조회 (상태 열마다 전체 수 + 앞의 limit 건)
+    @GetMapping("/projects/{projectId}/board")
+    public ResponseEntity<?> getBoard(@PathVariable Long projectId,
+                                      @RequestParam(defaultValue = "20") int limit,
+                                      @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            BoardResponse board = taskService.getBoard(projectId, limit, currentUser);
+            return ResponseEntity.ok(board);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("칸반 보드 조회 중 서버 오류 발생 | 프로젝트 ID: {}", projectId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("보드 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    //칸반 보드 열 추가 조회 (열 응답의 nextCursor 로 이어서)
+    @GetMapping("/projects/{projectId}/board/{status}")
+    public ResponseEntity<?> getBoardColumn(@PathVariable Long projectId,
+                                            @PathVariable Status status,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int limit,
+                                            @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            TaskCursor taskCursor = cursor != null && !cursor.isBlank() ? TaskCursor.parse(cursor, TaskSort.DEFAULT) : null;
+            BoardColumnResponse column = taskService.getBoardColumn(projectId, status, taskCursor, limit, currentUser);
+            return ResponseEntity.ok(column);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("칸반 보드 열 조회 중 서버 오류 발생 | 프로젝트 ID: {}, 상태: {}", projectId, status, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("보드 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    //보관된 업무 검색 (q: 제목/설명 부분 일치, 최근 보관 순 / 커서: cursor, limit)
+    @GetMapping("/projects/{projectId}/archived-tasks")
+    public ResponseEntity<?> searchArchivedTasks(@PathVariable Long projectId,
+                                                 @RequestParam(required = false) String q,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") int limit,
+                                                 @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            ArchivedTaskCursor archivedCursor = cursor != null && !cursor.isBlank() ? ArchivedTaskCursor.parse(cursor) : null;
+            ArchivedTaskPageResponse page = taskArchiveService.search(projectId, q, archivedCursor, limit, currentUser);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("보관된 업무 검색 중 서버 오류 발생 | 프로젝트 ID: {}", projectId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("보관된 업무 검색 중 오류가 발생했습니다.");
+        }
+    }
+
+    //보관된 업무 되돌리기 (댓글 포함)
+    @PostMapping("/projects/{projectId}/archived-tasks/{taskId}/restore")
+    public ResponseEntity<?> restoreArchivedTask(@PathVariable Long projectId,
+                                                 @PathVariable Long taskId,
+                                                 @AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        try {
+            TaskResponse restoredTask = taskArchiveService.restore(projectId, taskId, currentUser);
+            return ResponseEntity.ok(restoredTask);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("보관된 업무 되돌리기 중 서버 오류 발생 | 업무 ID: {}", taskId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("업무 되돌리기 중 오류가 발생했습니다.");
+        }
+    }
+
     //업무 수정
     @PutMapping("/tasks/{taskId}")
     public ResponseEntity<?> updateTask(@PathVariable Long taskId,
@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 활동 로그 목록 커서: 마지막으로 받은 항목의 (createdAt, id), 문자열 형식은 "2025-01-01T09:00:00.123_42"
+@Getter
+@AllArgsConstructor
+public class ActivityLogCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ActivityLogCursor parse(String value) {
+        int separator = value.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+        try {
+            return new ActivityLogCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+    }
+
+    public static ActivityLogCursor of(ActivityLogResponse last) {
+        return new ActivityLogCursor(last.getCreatedAt(), last.getId());
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + "_" + id;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.activitylog.ActivityLogType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// 활동 로그 목록 조회 조건 (비어 있는 조건은 적용하지 않음)
+@Getter
+@Builder(toBuilder = true)
+public class ActivityLogFilter {
+    private final Set<ActivityLogType> types;
+    private final Long actorId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final ActivityLogCursor cursor;
+    private final int limit;
+}
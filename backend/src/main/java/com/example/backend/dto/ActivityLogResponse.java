@@ -1,18 +1,18 @@
 package com.example.backend.dto;
 
-import com.example.backend.entity.activitylog.ActivityLog;
 import com.example.backend.entity.activitylog.ActivityLogType;
-import com.example.backend.entity.user.User;
-import com.example.backend.entity.user.UserProfile;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Getter
 public class ActivityLogResponse {
     private final Long id;
     private final String message;
+    // 템플릿 파라미터 (응답에는 만든 문장만 내려감)
+    @JsonIgnore
+    private final String params;
     private final ActivityLogType type;
     private final LocalDateTime createdAt;
     private final Long userId;
@@ -21,25 +21,24 @@ public class ActivityLogResponse {
     private final Long projectId;
     private final String projectName;
 
-    public ActivityLogResponse(ActivityLog activityLog) {
-        this.id = activityLog.getId();
-        this.message = activityLog.getMessage();
-        this.type = activityLog.getType();
-        this.createdAt = activityLog.getCreatedAt();
-        this.projectId = activityLog.getProject().getId();
-        this.projectName = activityLog.getProject().getName();
+    // 목록 조회용 JPQL 생성자 (사용자/프로필/프로젝트를 한 번에 조인해서 조회)
+    public ActivityLogResponse(Long id, String message, String params, ActivityLogType type, LocalDateTime createdAt,
+                               Long userId, String userName, String userAvatarUrl,
+                               Long projectId, String projectName) {
+        this.id = id;
+        this.message = message;
+        this.params = params;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.userId = userId;
+        this.userName = userId != null ? userName : "System";
+        this.userAvatarUrl = userAvatarUrl;
+        this.projectId = projectId;
+        this.projectName = projectName;
+    }
 
-        User user = activityLog.getUser();
-        if (user != null) {
-            this.userId = user.getId();
-            this.userName = user.getName();
-            this.userAvatarUrl = Optional.ofNullable(user.getUserProfile())
-                    .map(UserProfile::getAvatarUrl)
-                    .orElse(null);
-        } else {
-            this.userId = null;
-            this.userName = "System";
-            this.userAvatarUrl = null;
-        }
+    // 피드 버퍼의 항목은 여러 요청이 같이 보므로 문장을 채운 복사본을 만듦
+    public ActivityLogResponse withMessage(String message) {
+        return new ActivityLogResponse(id, message, params, type, createdAt, userId, userName, userAvatarUrl, projectId, projectName);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 보관된 업무 검색 커서: 마지막으로 받은 항목의 (archivedAt, id), 문자열 형식은 "2025-01-01T04:20:00_42"
+@Getter
+@AllArgsConstructor
+public class ArchivedTaskCursor {
+    private final LocalDateTime archivedAt;
+    private final Long id;
+
+    public static ArchivedTaskCursor parse(String value) {
+        int separator = value.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+        try {
+            return new ArchivedTaskCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+    }
+
+    public static ArchivedTaskCursor of(ArchivedTaskResponse last) {
+        return new ArchivedTaskCursor(last.getArchivedAt(), last.getId());
+    }
+
+    @Override
+    public String toString() {
+        return archivedAt + "_" + id;
+    }
+}
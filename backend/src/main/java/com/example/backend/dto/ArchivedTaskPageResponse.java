@@ -0,0 +1,14 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 보관된 업무 검색 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+@Getter
+@AllArgsConstructor
+public class ArchivedTaskPageResponse {
+    private final List<ArchivedTaskResponse> tasks;
+    private final String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.task.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 보관된 업무 검색 결과 한 줄 (JPQL 생성자, 담당자가 없거나 탈퇴했으면 담당자 값은 null)
+@Getter
+@AllArgsConstructor
+public class ArchivedTaskResponse {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final TaskPriority priority;
+    private final LocalDate dueDate;
+    private final Long assigneeId;
+    private final String assigneeName;
+    private final int comments;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final LocalDateTime archivedAt;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 칸반 보드의 상태 열 하나: 전체 카드 수와 현재 페이지 카드, 더 있으면 다음 커서
+@Getter
+@AllArgsConstructor
+public class BoardColumnResponse {
+    private final Status status;
+    private final long count;
+    private final List<TaskResponse> tasks;
+    private final String nextCursor;
+}
@@ -0,0 +1,9 @@
+package com.example.backend.dto;
+
+public enum BulkTaskOperation {
+    SET_STATUS,
+    SET_ASSIGNEE,
+    SET_PRIORITY,
+    SET_DUE_DATE,
+    DELETE
+}
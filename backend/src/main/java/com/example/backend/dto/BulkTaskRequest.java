@@ -0,0 +1,32 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 업무 일괄 작업: operation 에 맞는 값 하나만 사용 (SET_ASSIGNEE 의 assigneeId 가 없으면 담당자 해제, SET_DUE_DATE 의 dueDate 가 없으면 마감일 삭제)
+@Getter
+@Setter
+public class BulkTaskRequest {
+    @NotEmpty(message = "업무 ID 목록은 필수")
+    @Size(max = 500, message = "한 번에 최대 500개 업무")
+    private List<Long> taskIds;
+
+    @NotNull(message = "작업 종류는 필수")
+    private BulkTaskOperation operation;
+
+    private Status status;
+
+    private Long assigneeId;
+
+    private TaskPriority priority;
+
+    private LocalDate dueDate;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 작업 결과: 요청한 업무 수와 실제로 값이 바뀐 업무 수
+@Getter
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private final BulkTaskOperation operation;
+    private final int requested;
+    private final int changed;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+// 요약 메일 한 줄 (수신자, 프로젝트, 업무)
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DigestItem {
+    private final Long userId;
+    private final Long projectId;
+    private final String projectName;
+    private final Long taskId;
+    private final String taskTitle;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 마감 알림 대상 업무 (알림 생성에 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class DueTaskReminder {
+    private final Long taskId;
+    private final String title;
+    private final Long projectId;
+    private final Long assigneeId;
+    private final LocalDate dueDate;
+}
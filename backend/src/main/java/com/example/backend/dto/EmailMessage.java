@@ -0,0 +1,12 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailMessage {
+    private final String toEmail;
+    private final String subject;
+    private final String htmlBody;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MyTaskPageResponse {
+    private final List<MyTaskResponse> tasks;
+    private final String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 내 업무 목록 한 줄: 여러 프로젝트를 섞어 보여주므로 프로젝트 이름을 함께 담음 (JPQL 생성자)
+@Getter
+@AllArgsConstructor
+public class MyTaskResponse {
+    private final Long id;
+    private final String title;
+    private final Status status;
+    private final TaskPriority priority;
+    private final LocalDate dueDate;
+    private final Long projectId;
+    private final String projectName;
+    private final int comments;
+    private final LocalDateTime lastActivityAt;
+    private final LocalDateTime updatedAt;
+}
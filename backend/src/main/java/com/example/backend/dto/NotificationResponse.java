@@ -18,6 +18,8 @@ public class NotificationResponse {
     private final String link;
     private final boolean isRead;
     private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final int count;
     private final UserInfo user;
 
     @Getter
@@ -41,6 +43,8 @@ public class NotificationResponse {
         this.link = notification.getLink();
         this.isRead = notification.isRead();
         this.createdAt = notification.getCreatedAt();
+        this.updatedAt = notification.getLastAggregatedAt() != null ? notification.getLastAggregatedAt() : notification.getCreatedAt();
+        this.count = notification.getAggregateCount();
 
         if (notification.getActor() != null) {
             this.user = new UserInfo(notification.getActor());
@@ -17,6 +17,7 @@ public class NotificationSettingsResponse {
     private boolean projectInvitation;
     private boolean dailyDigest;
     private boolean weeklyDigest;
+    private Integer deliveryHour;
 
     public NotificationSettingsResponse(NotificationSettings settings) {
         this.emailNotifications = settings.isEmailNotifications();
@@ -27,5 +28,6 @@ public class NotificationSettingsResponse {
         this.projectInvitation = settings.isProjectInvitation();
         this.dailyDigest = settings.isDailyDigest();
         this.weeklyDigest = settings.isWeeklyDigest();
+        this.deliveryHour = settings.getDeliveryHour();
     }
 }
\ No newline at end of file
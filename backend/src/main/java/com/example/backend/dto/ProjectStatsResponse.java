@@ -0,0 +1,32 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 프로젝트 통계 패널: 상태/우선순위별 수, 마감 지남, 이번 주 마감, 멤버별 진행 중 업무 수
+@Getter
+@AllArgsConstructor
+public class ProjectStatsResponse {
+    private final Long projectId;
+    private final Map<Status, Long> statusCounts;
+    private final Map<TaskPriority, Long> priorityCounts;
+    private final long overdue;
+    private final long dueThisWeek;
+    private final long openUnassigned;
+    private final List<MemberOpenTasks> openByMember;
+    private final LocalDate asOf;
+
+    @Getter
+    @AllArgsConstructor
+    public static class MemberOpenTasks {
+        private final Long userId;
+        private final String name;
+        private final long openTasks;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 프로젝트 목록 카드용 요약 (업무/멤버 목록 없이 건수만)
+@Getter
+public class ProjectSummaryResponse {
+    private final Long id;
+    private final String name;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Status status;
+    private final LocalDateTime createdAt;
+    private final Map<Status, Long> taskCounts;
+    private final long taskCount;
+    @Setter
+    private long memberCount;
+
+    // 목록 조회용 JPQL 생성자 (상태별 업무 수는 프로젝트 행의 집계 값)
+    public ProjectSummaryResponse(Long id, String name, LocalDate startDate, LocalDate endDate, Status status,
+                                  LocalDateTime createdAt, int todoCount, int inProgressCount, int doneCount) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.taskCounts = new EnumMap<>(Status.class);
+        this.taskCounts.put(Status.TODO, (long) todoCount);
+        this.taskCounts.put(Status.IN_PROGRESS, (long) inProgressCount);
+        this.taskCounts.put(Status.DONE, (long) doneCount);
+        this.taskCount = (long) todoCount + inProgressCount + doneCount;
+    }
+}
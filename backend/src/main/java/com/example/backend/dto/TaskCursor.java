@@ -0,0 +1,61 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 업무 목록 커서: 마지막으로 받은 업무의 정렬 키 값들과 ID
+// 문자열 형식은 값마다 base64url 로 인코딩해 '.' 으로 이은 것 (null 은 '~'), 마지막 조각이 ID
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+    private static final String NULL_VALUE = "~";
+
+    private final List<Object> values;
+    private final Long id;
+
+    public static TaskCursor parse(String value, List<TaskSort> sorts) {
+        String[] parts = value.split("\\.", -1);
+        if (parts.length != sorts.size() + 1) {
+            throw new IllegalArgumentException("정렬 조건과 맞지 않는 커서입니다: " + value);
+        }
+        try {
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < sorts.size(); i++) {
+                values.add(parts[i].equals(NULL_VALUE) ? null : sorts.get(i).getField().parse(decode(parts[i])));
+            }
+            return new TaskCursor(values, Long.parseLong(parts[sorts.size()]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + value);
+        }
+    }
+
+    public static TaskCursor of(TaskResponse last, List<TaskSort> sorts) {
+        List<Object> values = new ArrayList<>();
+        for (TaskSort sort : sorts) {
+            values.add(sort.getField().valueOf(last));
+        }
+        return new TaskCursor(values, last.getId());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Object value : values) {
+            builder.append(value == null ? NULL_VALUE : encode(value.toString())).append('.');
+        }
+        return builder.append(id).toString();
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+// 업무 목록 조회 조건 (비어 있는 조건은 적용하지 않음)
+@Getter
+@Builder(toBuilder = true)
+public class TaskFilter {
+    private final Set<Status> statuses;
+    private final Long assigneeId;
+    private final boolean unassigned;
+    private final Set<TaskPriority> priorities;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+    @Builder.Default
+    private final List<TaskSort> sort = TaskSort.DEFAULT;
+    private final TaskCursor cursor;
+    private final int limit;
+
+    // 프로젝트 전체를 대상으로 하는지 (정렬/커서는 무관)
+    public boolean isUnfiltered() {
+        return (statuses == null || statuses.isEmpty())
+                && assigneeId == null
+                && !unassigned
+                && (priorities == null || priorities.isEmpty())
+                && dueFrom == null
+                && dueTo == null;
+    }
+}
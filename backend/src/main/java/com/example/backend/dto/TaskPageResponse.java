@@ -0,0 +1,18 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 업무 목록 한 페이지, 전체 건수와 상태별 건수는 첫 페이지(커서 없음)에만 담음
+@Getter
+@AllArgsConstructor
+public class TaskPageResponse {
+    private final List<TaskResponse> tasks;
+    private final String nextCursor;
+    private final Long total;
+    private final Map<Status, Long> statusCounts;
+}
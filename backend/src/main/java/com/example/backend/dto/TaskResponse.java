@@ -10,6 +10,7 @@ import java.util.Optional;
 import com.example.backend.entity.Status;
 import com.example.backend.entity.task.TaskPriority;
 import com.example.backend.entity.project.ProjectMember;
+import com.example.backend.entity.project.ProjectRole;
 
 @Getter
 public class TaskResponse {
@@ -24,6 +25,28 @@ public class TaskResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private int comments;
+    private final LocalDateTime lastActivityAt;
+
+    // 목록 조회용 JPQL 생성자 (담당자, 이 프로젝트에서의 역할, 아바타, 댓글 수를 한 번에 조회)
+    public TaskResponse(Long id, String title, String description, LocalDate dueDate, Status status, TaskPriority priority,
+                        Long projectId, Long assigneeId, String assigneeName, String assigneeEmail, ProjectRole assigneeRole,
+                        String assigneeAvatarUrl, LocalDateTime createdAt, LocalDateTime updatedAt, int commentCount,
+                        LocalDateTime lastActivityAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.priority = priority;
+        this.projectId = projectId;
+        this.assignee = assigneeId != null
+                ? new ProjectMemberResponse(assigneeId, assigneeName, assigneeEmail, assigneeRole, assigneeAvatarUrl)
+                : null;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.comments = commentCount;
+        this.lastActivityAt = lastActivityAt;
+    }
 
     public TaskResponse (Task task) {
         this.id = task.getId();
@@ -61,7 +84,8 @@ public class TaskResponse {
 
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
-        this.comments = task.getComments() != null ? task.getComments().size() : 0;
+        this.comments = task.getCommentCount();
+        this.lastActivityAt = task.getLastActivityAt();
     }
 
 
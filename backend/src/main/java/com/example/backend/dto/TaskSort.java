@@ -0,0 +1,48 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 정렬 조건 하나, 요청 형식은 "dueDate,asc" (방향 생략 시 asc)
+@Getter
+@AllArgsConstructor
+public class TaskSort {
+    public static final List<TaskSort> DEFAULT = List.of(new TaskSort(TaskSortField.CREATED_AT, true));
+    // 내 업무 목록: 마감일이 가까운 순
+    public static final List<TaskSort> BY_DUE_DATE = List.of(new TaskSort(TaskSortField.DUE_DATE, false));
+    private static final int MAX_KEYS = 3;
+
+    private final TaskSortField field;
+    private final boolean descending;
+
+    public static List<TaskSort> parse(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return DEFAULT;
+        }
+        if (values.size() > MAX_KEYS) {
+            throw new IllegalArgumentException("정렬 조건은 최대 " + MAX_KEYS + "개까지 지정할 수 있습니다.");
+        }
+        List<TaskSort> sorts = new ArrayList<>();
+        for (String value : values) {
+            String[] parts = value.split(",", 2);
+            boolean descending = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc");
+            if (parts.length > 1 && !descending && !parts[1].trim().equalsIgnoreCase("asc")) {
+                throw new IllegalArgumentException("정렬 방향은 asc 또는 desc 여야 합니다: " + value);
+            }
+            TaskSortField field = TaskSortField.fromParam(parts[0].trim());
+            if (sorts.stream().anyMatch(sort -> sort.getField() == field)) {
+                throw new IllegalArgumentException("같은 정렬 항목을 두 번 지정할 수 없습니다: " + field.getParam());
+            }
+            sorts.add(new TaskSort(field, descending));
+        }
+        return List.copyOf(sorts);
+    }
+
+    @Override
+    public String toString() {
+        return field.getParam() + "," + (descending ? "desc" : "asc");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.TaskPriority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 업무 목록 정렬 키: 요청 파라미터 이름, JPQL 식, 커서에 담을 값 (우선순위/상태는 enum 순서로 정렬)
+public enum TaskSortField {
+    CREATED_AT("createdAt", "t.createdAt", false, TaskResponse::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", "t.updatedAt", false, TaskResponse::getUpdatedAt, LocalDateTime::parse),
+    LAST_ACTIVITY_AT("lastActivityAt", "t.lastActivityAt", true, TaskResponse::getLastActivityAt, LocalDateTime::parse),
+    DUE_DATE("dueDate", "t.dueDate", true, TaskResponse::getDueDate, LocalDate::parse),
+    PRIORITY("priority", rankOf("t.priority", TaskPriority.class), false,
+            task -> task.getPriority().ordinal(), Integer::valueOf),
+    STATUS("status", rankOf("t.status", Status.class), false,
+            task -> task.getStatus().ordinal(), Integer::valueOf),
+    TITLE("title", "t.title", false, TaskResponse::getTitle, Function.identity());
+
+    private final String param;
+    private final String expression;
+    private final boolean nullable;
+    private final Function<TaskResponse, Object> extractor;
+    private final Function<String, Object> parser;
+
+    TaskSortField(String param, String expression, boolean nullable,
+                  Function<TaskResponse, Object> extractor, Function<String, Object> parser) {
+        this.param = param;
+        this.expression = expression;
+        this.nullable = nullable;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static TaskSortField fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(field -> field.param.equals(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("정렬할 수 없는 항목입니다: " + param));
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    // null 값은 정렬 방향과 관계없이 맨 뒤 (NULLS LAST)
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public Object valueOf(TaskResponse task) {
+        return extractor.apply(task);
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    private static <E extends Enum<E>> String rankOf(String path, Class<E> type) {
+        return Arrays.stream(type.getEnumConstants())
+                .map(constant -> " WHEN " + type.getName() + "." + constant.name() + " THEN " + constant.ordinal())
+                .collect(Collectors.joining("", "CASE " + path, " END"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 대시보드 업무량: 나에게 할당된 진행 중 업무, 마감 지남, 오늘 마감, 이번 주 완료
+@Getter
+@AllArgsConstructor
+public class UserWorkloadResponse {
+    private final long assigned;
+    private final long overdue;
+    private final long dueToday;
+    private final long completedThisWeek;
+    private final LocalDate asOf;
+}
@@ -12,7 +12,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "activitylog")
+@Table(name = "activitylog", indexes = {
+        @Index(name = "idx_activitylog_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_activitylog_project_user_created", columnList = "project_id, user_id, created_at, id"),
+        @Index(name = "idx_activitylog_project_type_created", columnList = "project_id, type, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,9 +27,14 @@ public class ActivityLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 이전 방식으로 저장된 완성 문장 (새 로그는 null, 변환 작업이 끝난 로그도 null)
+    @Column(columnDefinition = "TEXT")
     private String message;
 
+    // 템플릿에 채울 값 (ActivityLogParams 의 JSON)
+    @Column(length = 1000)
+    private String params;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -34,16 +43,17 @@ public class ActivityLog {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    // MySQL 네이티브 enum 이 아닌 문자열 컬럼: 유형을 추가해도 컬럼을 바꿀 필요가 없음 (ddl-auto 는 기존 enum 목록을 늘리지 않음)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "VARCHAR(50)")
     private ActivityLogType type;
 
     @CreatedDate
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdAt;
 
-    public ActivityLog(String message, User user, Project project, ActivityLogType type) {
-        this.message = message;
+    public ActivityLog(User user, Project project, ActivityLogType type, ActivityLogParams params) {
+        this.params = params.encode();
         this.user = user;
         this.project = project;
         this.type = type;
@@ -0,0 +1,127 @@
+package com.example.backend.entity.activitylog;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.project.ProjectRole;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 활동 로그 파라미터 (문장 대신 ID와 바뀐 값만 짧은 JSON 으로 저장하고, 문장은 조회할 때 템플릿으로 만듦)
+public final class ActivityLogParams {
+
+    public static final String TASK_ID = "taskId";
+    // 업무가 삭제된 뒤에도 표시할 수 있도록 남기는 제목
+    public static final String TITLE = "title";
+    public static final String TARGET_ID = "targetId";
+    // 대상 사용자를 ID로 찾을 수 없을 때 표시할 이름 (가입 전 초대 이메일, 이전 로그)
+    public static final String TARGET_NAME = "targetName";
+    public static final String ROLE = "role";
+    public static final String FROM = "from";
+    public static final String TO = "to";
+    // 일괄 작업: 대상 업무 수와 바꾼 항목 (STATUS, PRIORITY, DUE_DATE)
+    public static final String COUNT = "count";
+    public static final String FIELD = "field";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ActivityLogParams EMPTY = new ActivityLogParams(Collections.emptyMap());
+
+    private final Map<String, String> values;
+
+    private ActivityLogParams(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static ActivityLogParams empty() {
+        return EMPTY;
+    }
+
+    public static ActivityLogParams task(Task task) {
+        return new Builder().put(TASK_ID, task.getId()).put(TITLE, task.getTitle()).build();
+    }
+
+    public static ActivityLogParams statusChange(Task task, Status from, Status to) {
+        return new Builder().put(TASK_ID, task.getId()).put(TITLE, task.getTitle())
+                .put(FROM, from).put(TO, to).build();
+    }
+
+    public static ActivityLogParams member(User target) {
+        return new Builder().put(TARGET_ID, target.getId()).build();
+    }
+
+    public static ActivityLogParams invitee(User target, String email) {
+        return target != null ? member(target) : new Builder().put(TARGET_NAME, email).build();
+    }
+
+    public static ActivityLogParams roleChange(User target, ProjectRole role) {
+        return new Builder().put(TARGET_ID, target.getId()).put(ROLE, role).build();
+    }
+
+    public static ActivityLogParams bulk(int count, String field, Object to) {
+        return new Builder().put(COUNT, count).put(FIELD, field).put(TO, to).build();
+    }
+
+    public static ActivityLogParams bulkAssign(int count, User target) {
+        return new Builder().put(COUNT, count).put(TARGET_ID, target != null ? target.getId() : null).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public Long getLong(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("활동 로그 파라미터를 저장할 수 없습니다.", e);
+        }
+    }
+
+    public static ActivityLogParams decode(String json) {
+        if (json == null || json.isBlank()) {
+            return EMPTY;
+        }
+        try {
+            return new ActivityLogParams(OBJECT_MAPPER.readValue(json, new TypeReference<LinkedHashMap<String, String>>() {
+            }));
+        } catch (JsonProcessingException e) {
+            return EMPTY;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<String, String> values = new LinkedHashMap<>();
+
+        public Builder put(String key, Object value) {
+            if (value != null) {
+                values.put(key, value instanceof Enum<?> e ? e.name() : value.toString());
+            }
+            return this;
+        }
+
+        public ActivityLogParams build() {
+            return values.isEmpty() ? EMPTY : new ActivityLogParams(values);
+        }
+    }
+}
@@ -11,5 +11,10 @@ public enum ActivityLogType {
     TASK_UPDATED,
     TASK_STATUS_CHANGED,
     TASK_DELETED,
+    TASKS_BULK_UPDATED,
+    TASKS_BULK_ASSIGNED,
+    TASKS_BULK_UNASSIGNED,
+    TASKS_BULK_DELETED,
+    TASK_RESTORED,
     COMMENT_CREATED
 }
\ No newline at end of file
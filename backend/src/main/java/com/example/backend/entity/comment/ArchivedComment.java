@@ -0,0 +1,32 @@
+package com.example.backend.entity.comment;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관된 업무의 댓글: comment 와 같은 ID/값, 업무를 되돌릴 때 함께 옮김
+@Entity
+@Table(name = "comment_archive", indexes = {
+        @Index(name = "idx_comment_archive_task", columnList = "task_id")
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,58 @@
+package com.example.backend.entity.job;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 배치 작업 진행 위치 (작업별 한 행, 청크를 처리할 때마다 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "job_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @Column(nullable = false)
+    private int runSlot;
+
+    // 마지막으로 처리한 (그룹 ID, 행 ID) 키셋 위치
+    @Column(nullable = false)
+    private long lastGroupId;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public void start(LocalDate runDate, int runSlot) {
+        this.runDate = runDate;
+        this.runSlot = runSlot;
+        this.lastGroupId = 0;
+        this.lastId = 0;
+        this.completed = false;
+    }
+}
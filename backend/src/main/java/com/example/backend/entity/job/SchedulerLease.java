@@ -0,0 +1,39 @@
+package com.example.backend.entity.job;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 여러 서버 중 한 곳만 예약 작업(또는 작업의 한 샤드)을 실행하도록 하는 DB 임대 행
+// 획득/갱신은 조건부 UPDATE 한 번으로 처리하고, 시각 비교는 모두 DB 시계를 사용
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 150)
+    private String leaseName;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    // 이 임대로 실행한 회차 (같은 회차는 한 번만 실행)
+    @Column(length = 100)
+    private String runKey;
+
+    @Column(nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    // 임대를 새로 얻을 때마다 증가
+    @Column(nullable = false)
+    private long token;
+}
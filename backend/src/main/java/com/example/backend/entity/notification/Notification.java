@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_read_created", columnList = "is_read, created_at, id"),
+        @Index(name = "idx_notification_aggregate", columnList = "user_id, is_read, type, link")
+})
 public class Notification {
 
     @Id
@@ -43,4 +46,11 @@ public class Notification {
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    // 같은 대상에 대한 알림이 묶인 횟수 ("N건의 업데이트")
+    @Builder.Default
+    @Column(nullable = false)
+    private int aggregateCount = 1;
+
+    private LocalDateTime lastAggregatedAt;
 }
\ No newline at end of file
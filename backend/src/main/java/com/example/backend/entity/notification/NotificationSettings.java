@@ -45,6 +45,10 @@ public class NotificationSettings {
     @Column(nullable = false)
     private boolean weeklyDigest = true;
 
+    // 요약 메일/마감 알림을 받을 시각 (0~23시, 없으면 분산 구간 안에서 자동 배정)
+    @Column
+    private Integer deliveryHour;
+
     public NotificationSettings(User user) {
         this.user = user;
     }
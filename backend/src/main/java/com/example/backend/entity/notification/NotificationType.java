@@ -4,15 +4,18 @@ import lombok.Getter;
 
 @Getter
 public enum NotificationType {
-    TASK_ASSIGNED("새로운 업무 할당"),
-    TASK_UPDATED("업무 업데이트"),
-    TASK_COMMENT("새로운 댓글"),
-    TASK_DUE_DATE("업무 마감 임박"),
-    PROJECT_INVITATION("프로젝트 초대");
+    TASK_ASSIGNED("새로운 업무 할당", false),
+    TASK_UPDATED("업무 업데이트", true),
+    TASK_COMMENT("새로운 댓글", true),
+    TASK_DUE_DATE("업무 마감 임박", false),
+    PROJECT_INVITATION("프로젝트 초대", false);
 
     private final String displayName;
+    // 읽지 않은 같은 대상의 알림에 묶일 수 있는지 여부
+    private final boolean aggregatable;
 
-    NotificationType(String displayName) {
+    NotificationType(String displayName, boolean aggregatable) {
         this.displayName = displayName;
+        this.aggregatable = aggregatable;
     }
 }
\ No newline at end of file
@@ -11,14 +11,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// 삭제는 deletedAt 만 기록하고(엔티티 조회에서 바로 제외), 하위 데이터와 행은 ProjectPurgeScheduler 가 나중에 지움
 @Entity
-@Table(name = "project")
+@Table(name = "project", indexes = {
+        @Index(name = "idx_project_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,6 +49,20 @@ public class Project {
     @Column(nullable = false)
     private Status status;
 
+    // 상태별 업무 수: 엔티티 저장으로 덮어쓰지 않도록 updatable = false, 변경은 ProjectRepository 의 UPDATE 문으로만
+    @Column(nullable = false, updatable = false)
+    private int todoCount;
+
+    @Column(nullable = false, updatable = false)
+    private int inProgressCount;
+
+    @Column(nullable = false, updatable = false)
+    private int doneCount;
+
+    // 보관(task_archive)으로 옮긴 완료 업무 수: 프로젝트 상태 계산에서는 완료로 셈
+    @Column(nullable = false, updatable = false)
+    private int archivedCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
     private User creator;
@@ -58,6 +77,8 @@ public class Project {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     private List<ProjectMember> members = new ArrayList<>();
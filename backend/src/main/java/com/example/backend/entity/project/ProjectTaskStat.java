@@ -0,0 +1,46 @@
+package com.example.backend.entity.project;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 프로젝트 통계 집계 값: (프로젝트, 축, 키) 마다 업무 수 한 행
+// 업무 쓰기 시 ProjectStatsService 가 증감 UPSERT 로만 바꾸고, 주기적으로 원본과 맞춰 봄
+@Entity
+@Table(name = "project_task_stat")
+@IdClass(ProjectTaskStat.Key.class)
+@Getter
+@NoArgsConstructor
+public class ProjectTaskStat {
+
+    public static final String NONE_KEY = "none";
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ProjectTaskStatDimension dimension;
+
+    @Id
+    @Column(name = "stat_key", length = 32)
+    private String statKey;
+
+    @Column(nullable = false)
+    private int taskCount;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private ProjectTaskStatDimension dimension;
+        private String statKey;
+    }
+}
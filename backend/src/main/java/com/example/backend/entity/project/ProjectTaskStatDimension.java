@@ -0,0 +1,11 @@
+package com.example.backend.entity.project;
+
+// 프로젝트 통계 집계 축 (stat_key 의 의미)
+public enum ProjectTaskStatDimension {
+    // 전체 업무의 우선순위별 수 (키: TaskPriority 이름)
+    PRIORITY,
+    // 완료되지 않은 업무의 마감일별 수 (키: yyyy-MM-dd, 마감일 없으면 none)
+    OPEN_DUE,
+    // 완료되지 않은 업무의 담당자별 수 (키: 사용자 ID, 담당자 없으면 none)
+    OPEN_ASSIGNEE
+}
@@ -0,0 +1,59 @@
+package com.example.backend.entity.task;
+
+import com.example.backend.entity.Status;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 보관된 완료 업무: task 와 같은 ID/값을 그대로 옮겨 둔 행 (TaskArchiveService 가 SQL 로만 옮기고 되돌림)
+// 사용자/프로젝트는 ID 만 두어 보관 테이블에 외래 키를 걸지 않음
+@Entity
+@Table(name = "task_archive", indexes = {
+        @Index(name = "idx_task_archive_project_archived", columnList = "project_id, archived_at, id")
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -17,7 +17,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        // 마감 알림 청크: 담당자마다 마감일 구간만 읽음 (구간 조건 때문에 (담당자, 업무 ID) 순서는 청크 안에서 정렬)
+        @Index(name = "idx_task_assignee_due", columnList = "assignee_id, due_date, id"),
+        // 마감 알림 대상 담당자: 마감일 구간만 읽고 담당자 ID 는 인덱스에서 바로 가져옴
+        @Index(name = "idx_task_due_status_assignee", columnList = "due_date, status, assignee_id"),
+        // 내 업무 목록: 담당자 + 상태 필터 후 마감일 순
+        @Index(name = "idx_task_assignee_status_due", columnList = "assignee_id, status, due_date, id"),
+        // 업무 목록 필터/정렬: 기본 정렬(생성일), 상태별, 담당자별, 마감일 순
+        @Index(name = "idx_task_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_task_project_status_created", columnList = "project_id, status, created_at, id"),
+        @Index(name = "idx_task_project_assignee_status", columnList = "project_id, assignee_id, status"),
+        @Index(name = "idx_task_project_due", columnList = "project_id, due_date, id"),
+        // 완료 업무 자동 보관 대상 찾기
+        @Index(name = "idx_task_status_completed", columnList = "status, completed_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,6 +71,16 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // DONE 으로 바뀐 시각 (DONE 이 아니면 null): 사용자별 "이번 주 완료" 집계 기준
+    private LocalDateTime completedAt;
+
+    // 목록 조회용 집계 값: 엔티티 저장으로 덮어쓰지 않도록 updatable = false, 변경은 TaskRepository 의 UPDATE 문으로만
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.backend.entity.user;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 사용자별 업무량 집계 (대시보드): 모든 프로젝트에서 나에게 할당된 업무 기준
+// 업무 쓰기 시 UserWorkloadService 가 증감 UPDATE 로만 바꾸고, 날짜 기준 값(마감 지남/오늘 마감/이번 주 완료)은 자정 작업이 asOf 를 오늘로 넘기며 다시 계산
+@Entity
+@Table(name = "user_workload", indexes = {
+        @Index(name = "idx_user_workload_as_of", columnList = "as_of")
+})
+@Getter
+@NoArgsConstructor
+public class UserWorkload {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private int assignedOpen;
+
+    @Column(nullable = false)
+    private int overdue;
+
+    @Column(nullable = false)
+    private int dueToday;
+
+    @Column(nullable = false)
+    private int completedThisWeek;
+
+    // 날짜 기준 값을 계산한 날
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+
+    private LocalDateTime updatedAt;
+}
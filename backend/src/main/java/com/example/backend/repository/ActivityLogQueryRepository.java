@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.dto.ActivityLogResponse;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ActivityLogQueryRepository {
+    // 프로젝트 활동 로그를 (createdAt, id) 내림차순 커서로 조회
+    List<ActivityLogResponse> findPage(Long projectId, ActivityLogFilter filter);
+
+    // 여러 프로젝트의 최근 로그를 프로젝트마다 최대 perProject 건씩 한 번에 조회 (프로젝트 안에서는 최신순)
+    List<ActivityLogResponse> findRecentByProjectIds(Collection<Long> projectIds, int perProject);
+}
@@ -0,0 +1,108 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ActivityLogQueryRepositoryImpl implements ActivityLogQueryRepository {
+
+    // 프로젝트마다 (project_id, created_at, id) 인덱스를 역순으로 perProject 건만 읽는 하위 조회를 UNION ALL 로 묶고,
+    // 잘라낸 행에만 사용자/프로필/프로젝트를 조인 (IN 목록 하나로 읽으면 프로젝트의 로그 전체를 정렬하게 됨)
+    private static final String RECENT_PER_PROJECT_SQL =
+            "(SELECT id, message, params, type, created_at, user_id, project_id FROM activitylog " +
+                    "WHERE project_id = ? ORDER BY created_at DESC, id DESC LIMIT ?)";
+    private static final String RECENT_SELECT_SQL =
+            "SELECT r.id, r.message, r.params, r.type, r.created_at, u.id AS user_id, u.name AS user_name, " +
+                    "up.avatar_url AS user_avatar_url, p.id AS project_id, p.name AS project_name FROM (";
+    private static final String RECENT_JOIN_SQL =
+            ") r JOIN project p ON p.id = r.project_id " +
+                    "JOIN `user` u ON u.id = r.user_id " +
+                    "LEFT JOIN user_profiles up ON up.user_id = u.id";
+    private static final RowMapper<ActivityLogResponse> RECENT_ROW_MAPPER = (rs, rowNum) -> new ActivityLogResponse(
+            rs.getLong("id"),
+            rs.getString("message"),
+            rs.getString("params"),
+            ActivityLogType.valueOf(rs.getString("type")),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getLong("user_id"),
+            rs.getString("user_name"),
+            rs.getString("user_avatar_url"),
+            rs.getLong("project_id"),
+            rs.getString("project_name"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityLogQueryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ActivityLogResponse> findPage(Long projectId, ActivityLogFilter filter) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.backend.dto.ActivityLogResponse(" +
+                        "a.id, a.message, a.params, a.type, a.createdAt, u.id, u.name, up.avatarUrl, p.id, p.name) " +
+                        "FROM ActivityLog a JOIN a.project p JOIN a.user u LEFT JOIN u.userProfile up " +
+                        "WHERE p.id = :projectId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+
+        if (filter.getTypes() != null && !filter.getTypes().isEmpty()) {
+            jpql.append(" AND a.type IN :types");
+            params.put("types", filter.getTypes());
+        }
+        if (filter.getActorId() != null) {
+            jpql.append(" AND u.id = :actorId");
+            params.put("actorId", filter.getActorId());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" AND a.createdAt >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" AND a.createdAt < :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getCursor() != null) {
+            jpql.append(" AND (a.createdAt < :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId))");
+            params.put("cursorCreatedAt", filter.getCursor().getCreatedAt());
+            params.put("cursorId", filter.getCursor().getId());
+        }
+        jpql.append(" ORDER BY a.createdAt DESC, a.id DESC");
+
+        TypedQuery<ActivityLogResponse> query = entityManager.createQuery(jpql.toString(), ActivityLogResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(filter.getLimit()).getResultList();
+    }
+
+    @Override
+    public List<ActivityLogResponse> findRecentByProjectIds(Collection<Long> projectIds, int perProject) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> params = new ArrayList<>(projectIds.size() * 2);
+        for (Long projectId : projectIds) {
+            params.add(projectId);
+            params.add(perProject);
+        }
+        String sql = RECENT_SELECT_SQL
+                + String.join(" UNION ALL ", Collections.nCopies(projectIds.size(), RECENT_PER_PROJECT_SQL))
+                + RECENT_JOIN_SQL;
+        return jdbcTemplate.query(sql, RECENT_ROW_MAPPER, params.toArray());
+    }
+}
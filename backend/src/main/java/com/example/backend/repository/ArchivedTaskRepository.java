@@ -0,0 +1,42 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.ArchivedTaskResponse;
+import com.example.backend.entity.task.ArchivedTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Optional<ArchivedTask> findByIdAndProjectId(Long id, Long projectId);
+
+    // 보관된 업무 검색: 제목/설명에 pattern 이 들어간 업무를 최근 보관 순으로 (첫 페이지)
+    @Query("SELECT new com.example.backend.dto.ArchivedTaskResponse(t.id, t.title, t.description, t.priority, t.dueDate, " +
+            "u.id, u.name, t.commentCount, t.createdAt, t.completedAt, t.archivedAt) " +
+            "FROM ArchivedTask t LEFT JOIN User u ON u.id = t.assigneeId " +
+            "WHERE t.projectId = :projectId " +
+            "AND (LOWER(t.title) LIKE :pattern ESCAPE '!' OR LOWER(t.description) LIKE :pattern ESCAPE '!') " +
+            "ORDER BY t.archivedAt DESC, t.id DESC")
+    List<ArchivedTaskResponse> search(@Param("projectId") Long projectId,
+                                      @Param("pattern") String pattern,
+                                      Pageable pageable);
+
+    // 다음 페이지: 커서 (archivedAt, id) 보다 뒤
+    @Query("SELECT new com.example.backend.dto.ArchivedTaskResponse(t.id, t.title, t.description, t.priority, t.dueDate, " +
+            "u.id, u.name, t.commentCount, t.createdAt, t.completedAt, t.archivedAt) " +
+            "FROM ArchivedTask t LEFT JOIN User u ON u.id = t.assigneeId " +
+            "WHERE t.projectId = :projectId " +
+            "AND (LOWER(t.title) LIKE :pattern ESCAPE '!' OR LOWER(t.description) LIKE :pattern ESCAPE '!') " +
+            "AND (t.archivedAt < :archivedAt OR (t.archivedAt = :archivedAt AND t.id < :id)) " +
+            "ORDER BY t.archivedAt DESC, t.id DESC")
+    List<ArchivedTaskResponse> searchAfter(@Param("projectId") Long projectId,
+                                           @Param("pattern") String pattern,
+                                           @Param("archivedAt") LocalDateTime archivedAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+}
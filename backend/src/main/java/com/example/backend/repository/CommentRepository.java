@@ -1,13 +1,30 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.DigestItem;
 import com.example.backend.entity.comment.Comment;
-import com.example.backend.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTaskIdOrderByCreatedAtAsc(Long taskId);
-    List<Comment> findByTaskProjectIdAndTaskAssigneeAndUserNotAndCreatedAtAfter(Long projectId, User assignee, User author, LocalDateTime dateTime);
-}
\ No newline at end of file
+
+    // 요약 메일: 다른 사람이 새 댓글을 단 담당 업무를 한 번에 조회
+    @Query("SELECT DISTINCT new com.example.backend.dto.DigestItem(a.id, p.id, p.name, t.id, t.title) " +
+            "FROM Comment c JOIN c.task t JOIN t.project p JOIN t.assignee a " +
+            "WHERE a.id IN :userIds AND c.user <> a AND c.createdAt > :since " +
+            "AND EXISTS (SELECT pm.id FROM ProjectMember pm WHERE pm.project = p AND pm.user = a " +
+            "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED) " +
+            "ORDER BY a.id, p.id, t.id")
+    List<DigestItem> findCommentedTaskDigestItems(@Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since);
+
+    // 업무 일괄 삭제 전에 댓글을 한 문장으로 삭제 (엔티티 cascade 를 거치지 않음)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.job.JobCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+    Optional<JobCheckpoint> findByJobName(String jobName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<JobCheckpoint> findForUpdateByJobName(String jobName);
+}
@@ -1,20 +1,53 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.notification.Notification;
+import com.example.backend.entity.notification.NotificationType;
 import com.example.backend.entity.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    List<Notification> findByUserIdOrderByLastAggregatedAtDescCreatedAtDesc(Long userId);
+
+    // 집계 구간 안에 있는 같은 수신자/유형/대상의 읽지 않은 알림
+    // 잠가 읽어서 동시에 들어온 알림이 같은 누적 수를 읽고 한 건을 잃지 않게 함 (뒤의 요청은 앞의 커밋 후 값을 봄)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = false AND n.type = :type AND n.link = :link " +
+            "AND n.lastAggregatedAt >= :windowStart " +
+            "ORDER BY n.id DESC")
+    List<Notification> findOpenAggregates(@Param("userId") Long userId,
+                                          @Param("type") NotificationType type,
+                                          @Param("link") String link,
+                                          @Param("windowStart") LocalDateTime windowStart,
+                                          Pageable pageable);
 
     @Transactional
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
     void markAllAsReadForUser(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 보관 기간이 지난 알림을 (createdAt, id) 순서로 청크 조회
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.isRead = :isRead AND n.createdAt < :before " +
+            "AND (n.createdAt > :afterCreatedAt OR (n.createdAt = :afterCreatedAt AND n.id > :afterId)) " +
+            "ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findRetentionChunk(@Param("isRead") boolean isRead,
+                                          @Param("before") LocalDateTime before,
+                                          @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
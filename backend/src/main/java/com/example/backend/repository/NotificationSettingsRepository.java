@@ -3,9 +3,8 @@ package com.example.backend.repository;
 import com.example.backend.entity.notification.NotificationSettings;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
+import java.util.Optional;
 
 public interface NotificationSettingsRepository extends JpaRepository<NotificationSettings, Long> {
-    List<NotificationSettings> findByDailyDigestTrue();
-    List<NotificationSettings> findByWeeklyDigestTrue();
+    Optional<NotificationSettings> findByUserId(Long userId);
 }
\ No newline at end of file
@@ -6,6 +6,10 @@ import com.example.backend.entity.project.Project;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.project.ProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +23,19 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     List<ProjectMember> findByProjectAndInvitationStatus(Project project, ProjectInvitationStatus status);
     List<ProjectMember> findByProjectIdAndInvitationStatus(Long projectId, ProjectInvitationStatus status);
     Optional<ProjectMember> findByProjectIdAndInvitedEmail(Long projectId, String invitedEmail);
-}
\ No newline at end of file
+
+    @Query("SELECT pm.project.id FROM ProjectMember pm WHERE pm.user.id = :userId " +
+            "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED")
+    List<Long> findAcceptedProjectIdsByUserId(@Param("userId") Long userId);
+
+    // 프로젝트별 수락한 멤버 수를 한 문장으로 (각 행은 [프로젝트 ID, 멤버 수])
+    @Query("SELECT pm.project.id, COUNT(pm) FROM ProjectMember pm WHERE pm.project.id IN :projectIds " +
+            "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED " +
+            "GROUP BY pm.project.id")
+    List<Object[]> countAcceptedMembersByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    // 프로젝트 삭제 시 멤버십(초대 포함)을 한 문장으로 정리해 모든 멤버 기준 조회에서 바로 빠지게 함
+    @Modifying
+    @Query("DELETE FROM ProjectMember pm WHERE pm.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,9 +1,12 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.ProjectSummaryResponse;
 import com.example.backend.entity.project.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +24,61 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             "WHERE m.user.id = :userId " +
             "AND m.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED")
     List<Project> findAcceptedProjectsByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 프로젝트 목록 요약: 수락한 프로젝트를 최근 생성 순으로, 업무/멤버 컬렉션을 읽지 않음
+    @Query("SELECT new com.example.backend.dto.ProjectSummaryResponse(" +
+            "p.id, p.name, p.startDate, p.endDate, p.status, p.createdAt, p.todoCount, p.inProgressCount, p.doneCount) " +
+            "FROM ProjectMember m JOIN m.project p " +
+            "WHERE m.user.id = :userId " +
+            "AND m.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectSummaryResponse> findSummariesByMemberUserId(@Param("userId") Long userId);
+
+    // 업무 상태 변화만큼 상태별 업무 수를 증감하고 프로젝트 상태를 같은 문장에서 결정
+    // (MySQL 은 SET 을 왼쪽부터 적용하므로 상태를 먼저 두어 증감 전 값 + 변화량으로 계산, 보관된 업무는 완료로 셈)
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.status = CASE " +
+            "WHEN p.todoCount + :todo + p.inProgressCount + :inProgress + p.doneCount + :done + p.archivedCount + :archived <= 0 " +
+            "THEN com.example.backend.entity.Status.TODO " +
+            "WHEN p.todoCount + :todo <= 0 AND p.inProgressCount + :inProgress <= 0 " +
+            "THEN com.example.backend.entity.Status.DONE " +
+            "WHEN p.inProgressCount + :inProgress > 0 OR p.doneCount + :done + p.archivedCount + :archived > 0 " +
+            "THEN com.example.backend.entity.Status.IN_PROGRESS " +
+            "ELSE com.example.backend.entity.Status.TODO END, " +
+            "p.todoCount = p.todoCount + :todo, " +
+            "p.inProgressCount = p.inProgressCount + :inProgress, " +
+            "p.doneCount = p.doneCount + :done, " +
+            "p.archivedCount = p.archivedCount + :archived " +
+            "WHERE p.id = :projectId")
+    int applyTaskStatusDelta(@Param("projectId") Long projectId,
+                             @Param("todo") int todo,
+                             @Param("inProgress") int inProgress,
+                             @Param("done") int done,
+                             @Param("archived") int archived);
+
+    @Query("SELECT MAX(p.id) FROM Project p")
+    Long findMaxId();
+
+    // 집계 값 검사: ID 구간의 프로젝트마다 상태별 업무 수를 다시 세고, 어긋난 프로젝트만 수와 상태를 고침
+    // (수가 맞는 프로젝트는 관리자가 직접 바꾼 상태를 그대로 둠)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE project p LEFT JOIN (" +
+            "SELECT project_id, SUM(status = 'TODO') AS todo, SUM(status = 'IN_PROGRESS') AS in_progress, " +
+            "SUM(status = 'DONE') AS done FROM task " +
+            "WHERE project_id BETWEEN :fromId AND :toId GROUP BY project_id) c ON c.project_id = p.id " +
+            "LEFT JOIN (SELECT project_id, COUNT(*) AS archived FROM task_archive " +
+            "WHERE project_id BETWEEN :fromId AND :toId GROUP BY project_id) a ON a.project_id = p.id " +
+            "SET p.todo_count = COALESCE(c.todo, 0), " +
+            "p.in_progress_count = COALESCE(c.in_progress, 0), " +
+            "p.done_count = COALESCE(c.done, 0), " +
+            "p.archived_count = COALESCE(a.archived, 0), " +
+            "p.status = CASE WHEN c.project_id IS NULL AND a.project_id IS NULL THEN 'TODO' " +
+            "WHEN COALESCE(c.todo, 0) = 0 AND COALESCE(c.in_progress, 0) = 0 THEN 'DONE' " +
+            "WHEN c.in_progress > 0 OR c.done > 0 OR a.archived > 0 THEN 'IN_PROGRESS' ELSE 'TODO' END " +
+            "WHERE p.id BETWEEN :fromId AND :toId " +
+            "AND (p.todo_count <> COALESCE(c.todo, 0) OR p.in_progress_count <> COALESCE(c.in_progress, 0) " +
+            "OR p.done_count <> COALESCE(c.done, 0) OR p.archived_count <> COALESCE(a.archived, 0))", nativeQuery = true)
+    int rebuildStatusCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+}
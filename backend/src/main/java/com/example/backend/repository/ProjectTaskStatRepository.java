@@ -0,0 +1,17 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.project.ProjectTaskStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectTaskStatRepository extends JpaRepository<ProjectTaskStat, ProjectTaskStat.Key> {
+    List<ProjectTaskStat> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskStat s WHERE s.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,57 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.job.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_lease (lease_name, owner, run_key, expires_at, completed, token) " +
+            "VALUES (:name, '', NULL, '1970-01-01 00:00:00', true, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // 만료되었거나 끝난 임대만 가져올 수 있고, 이미 끝낸 회차는 다시 실행하지 않음
+    // 같은 회차가 끝나지 않은 채 만료되면(실행하던 서버 장애) 다른 서버가 이어받음
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease " +
+            "SET owner = :owner, run_key = :runKey, completed = false, token = token + 1, " +
+            "expires_at = TIMESTAMPADD(MICROSECOND, :ttlMs * 1000, NOW(3)) " +
+            "WHERE lease_name = :name " +
+            "AND (expires_at < NOW(3) OR completed = true) " +
+            "AND (run_key IS NULL OR run_key <> :runKey OR completed = false)", nativeQuery = true)
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("runKey") String runKey,
+                   @Param("ttlMs") long ttlMs);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease SET expires_at = TIMESTAMPADD(MICROSECOND, :ttlMs * 1000, NOW(3)) " +
+            "WHERE lease_name = :name AND owner = :owner AND completed = false", nativeQuery = true)
+    int renew(@Param("name") String name,
+              @Param("owner") String owner,
+              @Param("ttlMs") long ttlMs);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduler_lease SET completed = :completed, expires_at = NOW(3) " +
+            "WHERE lease_name = :name AND owner = :owner", nativeQuery = true)
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("completed") boolean completed);
+
+    // 끝난 지 오래된 일회성 임대 행 정리
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM scheduler_lease WHERE completed = true AND lease_name LIKE :prefix " +
+            "AND expires_at < TIMESTAMPADD(DAY, -:days, NOW(3)) LIMIT :limit", nativeQuery = true)
+    int deleteCompletedBefore(@Param("prefix") String prefix,
+                              @Param("days") int days,
+                              @Param("limit") int limit);
+}
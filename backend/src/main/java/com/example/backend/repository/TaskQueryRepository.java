@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.MyTaskResponse;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskResponse;
+import com.example.backend.entity.Status;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TaskQueryRepository {
+    // 프로젝트 업무를 필터의 정렬 키 + ID 커서로 조회 (다음 페이지 유무 확인을 위해 최대 limit + 1건)
+    List<TaskResponse> findPage(Long projectId, TaskFilter filter);
+
+    // 같은 조건의 상태별 업무 수 (커서, 정렬은 무시)
+    Map<Status, Long> countByStatus(Long projectId, TaskFilter filter);
+
+    // 보드 첫 화면: 상태마다 (createdAt, id) 내림차순으로 앞의 perColumn 건씩 한 문장에 조회
+    List<TaskResponse> findBoardHeads(Long projectId, int perColumn);
+
+    // 수락한 모든 프로젝트에서 사용자에게 할당된 업무를 필터의 정렬 키 + ID 커서로 조회 (최대 limit + 1건, 담당자 조건은 무시)
+    List<MyTaskResponse> findAssignedPage(Long userId, TaskFilter filter);
+}
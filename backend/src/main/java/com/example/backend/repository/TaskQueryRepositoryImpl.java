@@ -0,0 +1,208 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.MyTaskResponse;
+import com.example.backend.dto.TaskCursor;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskResponse;
+import com.example.backend.dto.TaskSort;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.project.ProjectRole;
+import com.example.backend.entity.task.TaskPriority;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    // 창 함수로 상태별 순번을 매긴 뒤 잘라낸 행에만 담당자/프로필/멤버 역할을 조인
+    private static final String BOARD_HEADS_SQL =
+            "SELECT b.id, b.title, b.description, b.due_date, b.status, b.priority, b.project_id, " +
+                    "b.created_at, b.updated_at, b.comment_count, b.last_activity_at, " +
+                    "a.id AS assignee_id, a.name AS assignee_name, a.email AS assignee_email, " +
+                    "pm.role AS assignee_role, up.avatar_url AS assignee_avatar_url " +
+                    "FROM (SELECT t.*, ROW_NUMBER() OVER (PARTITION BY t.status ORDER BY t.created_at DESC, t.id DESC) AS rn " +
+                    "FROM task t WHERE t.project_id = ?) b " +
+                    "LEFT JOIN `user` a ON a.id = b.assignee_id " +
+                    "LEFT JOIN user_profiles up ON up.user_id = a.id " +
+                    "LEFT JOIN project_members pm ON pm.project_id = b.project_id AND pm.user_id = a.id " +
+                    "WHERE b.rn <= ? " +
+                    "ORDER BY b.status, b.rn";
+    private static final RowMapper<TaskResponse> BOARD_ROW_MAPPER = (rs, rowNum) -> new TaskResponse(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("due_date", LocalDate.class),
+            Status.valueOf(rs.getString("status")),
+            TaskPriority.valueOf(rs.getString("priority")),
+            rs.getLong("project_id"),
+            rs.getObject("assignee_id", Long.class),
+            rs.getString("assignee_name"),
+            rs.getString("assignee_email"),
+            rs.getString("assignee_role") != null ? ProjectRole.valueOf(rs.getString("assignee_role")) : null,
+            rs.getString("assignee_avatar_url"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getInt("comment_count"),
+            rs.getObject("last_activity_at", LocalDateTime.class));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskQueryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskResponse> findBoardHeads(Long projectId, int perColumn) {
+        return jdbcTemplate.query(BOARD_HEADS_SQL, BOARD_ROW_MAPPER, projectId, perColumn);
+    }
+
+    @Override
+    public List<TaskResponse> findPage(Long projectId, TaskFilter filter) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.backend.dto.TaskResponse(" +
+                        "t.id, t.title, t.description, t.dueDate, t.status, t.priority, p.id, " +
+                        "a.id, a.name, a.email, pm.role, up.avatarUrl, t.createdAt, t.updatedAt, t.commentCount, t.lastActivityAt) " +
+                        "FROM Task t JOIN t.project p LEFT JOIN t.assignee a LEFT JOIN a.userProfile up " +
+                        "LEFT JOIN ProjectMember pm ON pm.project = p AND pm.user = a " +
+                        "WHERE p.id = :projectId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+        appendConditions(jpql, params, filter);
+
+        appendKeysetAndOrder(jpql, params, filter);
+
+        TypedQuery<TaskResponse> query = entityManager.createQuery(jpql.toString(), TaskResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(filter.getLimit() + 1).getResultList();
+    }
+
+    // 담당자 조건이 앞에 오므로 (assignee_id, status, due_date, id) 인덱스 범위만 읽음, 프로젝트 수와 관계없이 한 문장
+    @Override
+    public List<MyTaskResponse> findAssignedPage(Long userId, TaskFilter filter) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.backend.dto.MyTaskResponse(" +
+                        "t.id, t.title, t.status, t.priority, t.dueDate, p.id, p.name, t.commentCount, t.lastActivityAt, t.updatedAt) " +
+                        "FROM Task t JOIN t.project p " +
+                        "WHERE t.assignee.id = :userId " +
+                        "AND EXISTS (SELECT pm.id FROM ProjectMember pm WHERE pm.project = p AND pm.user.id = :userId " +
+                        "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED)");
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        appendConditions(jpql, params, filter.toBuilder().assigneeId(null).unassigned(false).build());
+        appendKeysetAndOrder(jpql, params, filter);
+
+        TypedQuery<MyTaskResponse> query = entityManager.createQuery(jpql.toString(), MyTaskResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(filter.getLimit() + 1).getResultList();
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus(Long projectId, TaskFilter filter) {
+        StringBuilder jpql = new StringBuilder("SELECT t.status, COUNT(t) FROM Task t WHERE t.project.id = :projectId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("projectId", projectId);
+        appendConditions(jpql, params, filter);
+        jpql.append(" GROUP BY t.status");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        params.forEach(query::setParameter);
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : query.getResultList()) {
+            counts.put((Status) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void appendConditions(StringBuilder jpql, Map<String, Object> params, TaskFilter filter) {
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            jpql.append(" AND t.status IN :statuses");
+            params.put("statuses", filter.getStatuses());
+        }
+        if (filter.isUnassigned()) {
+            jpql.append(" AND t.assignee IS NULL");
+        } else if (filter.getAssigneeId() != null) {
+            jpql.append(" AND t.assignee.id = :assigneeId");
+            params.put("assigneeId", filter.getAssigneeId());
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            jpql.append(" AND t.priority IN :priorities");
+            params.put("priorities", filter.getPriorities());
+        }
+        if (filter.getDueFrom() != null) {
+            jpql.append(" AND t.dueDate >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            jpql.append(" AND t.dueDate <= :dueTo");
+            params.put("dueTo", filter.getDueTo());
+        }
+    }
+
+    private void appendKeysetAndOrder(StringBuilder jpql, Map<String, Object> params, TaskFilter filter) {
+        List<TaskSort> sorts = filter.getSort();
+        // 마지막 정렬 키와 같은 방향의 ID 를 덧붙여 순서를 확정
+        boolean idDescending = sorts.get(sorts.size() - 1).isDescending();
+        if (filter.getCursor() != null) {
+            appendKeyset(jpql, params, sorts, filter.getCursor(), idDescending);
+        }
+
+        List<String> orderBy = new ArrayList<>();
+        for (TaskSort sort : sorts) {
+            orderBy.add(sort.getField().getExpression() + (sort.isDescending() ? " DESC" : " ASC")
+                    + (sort.getField().isNullable() ? " NULLS LAST" : ""));
+        }
+        orderBy.add("t.id" + (idDescending ? " DESC" : " ASC"));
+        jpql.append(" ORDER BY ").append(String.join(", ", orderBy));
+    }
+
+    // (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... OR (모든 키 = 값 AND id > 커서 ID), 방향에 따라 < 사용
+    // null 은 맨 뒤이므로 값 뒤에는 null 이 오고, null 뒤에는 같은 null 만 옴
+    private void appendKeyset(StringBuilder jpql, Map<String, Object> params, List<TaskSort> sorts,
+                              TaskCursor cursor, boolean idDescending) {
+        List<String> alternatives = new ArrayList<>();
+        List<String> equalities = new ArrayList<>();
+        for (int i = 0; i < sorts.size(); i++) {
+            TaskSort sort = sorts.get(i);
+            String expression = sort.getField().getExpression();
+            Object value = cursor.getValues().get(i);
+            String param = "cursor" + i;
+
+            if (value != null) {
+                params.put(param, value);
+                String after = expression + (sort.isDescending() ? " < :" : " > :") + param;
+                if (sort.getField().isNullable()) {
+                    after = "(" + after + " OR " + expression + " IS NULL)";
+                }
+                alternatives.add(joinAnd(equalities, after));
+                equalities.add(expression + " = :" + param);
+            } else {
+                equalities.add(expression + " IS NULL");
+            }
+        }
+        params.put("cursorId", cursor.getId());
+        alternatives.add(joinAnd(equalities, "t.id" + (idDescending ? " < " : " > ") + ":cursorId"));
+        jpql.append(" AND (").append(String.join(" OR ", alternatives)).append(")");
+    }
+
+    private static String joinAnd(List<String> equalities, String last) {
+        List<String> parts = new ArrayList<>(equalities);
+        parts.add(last);
+        return "(" + String.join(" AND ", parts) + ")";
+    }
+}
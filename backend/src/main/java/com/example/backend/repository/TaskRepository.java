@@ -1,19 +1,182 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.DigestItem;
+import com.example.backend.dto.DueTaskReminder;
 import com.example.backend.entity.project.Project;
 import com.example.backend.entity.task.Task;
+import com.example.backend.entity.task.TaskPriority;
 import com.example.backend.entity.Status;
 import com.example.backend.entity.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectIdOrderByCreatedAtDesc(Long projectId);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
     List<Task> findByProjectAndAssignee(Project project, User assignee);
-    List<Task> findByDueDateBetweenAndStatusNot(LocalDate start, LocalDate end, Status status);
-    List<Task> findByProjectIdAndAssigneeAndStatusNotAndCreatedAtAfter(Long projectId, User assignee, Status status, LocalDateTime dateTime);
-    List<Task> findByProjectIdAndAssigneeAndStatusAndUpdatedAtAfter(Long projectId, User assignee, Status status, LocalDateTime dateTime);
-}
\ No newline at end of file
+
+    // 댓글 수/최근 활동 시각은 동시에 여러 요청이 바꿔도 빠지지 않도록 한 문장으로 증감
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + 1, t.lastActivityAt = :at WHERE t.id = :taskId")
+    int incrementCommentCount(@Param("taskId") Long taskId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = CASE WHEN t.commentCount > 0 THEN t.commentCount - 1 ELSE 0 END, " +
+            "t.lastActivityAt = :at WHERE t.id = :taskId")
+    int decrementCommentCount(@Param("taskId") Long taskId, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.lastActivityAt = :at WHERE t.id = :taskId")
+    int touchActivity(@Param("taskId") Long taskId, @Param("at") LocalDateTime at);
+
+    @Query("SELECT DISTINCT t.assignee.id FROM Task t WHERE t.project.id = :projectId AND t.assignee IS NOT NULL")
+    List<Long> findAssigneeIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT MAX(t.id) FROM Task t")
+    Long findMaxId();
+
+    // 집계 값 복구: ID 구간의 업무마다 댓글 수를 다시 세고, 최근 활동 시각은 원본(업무 수정, 마지막 댓글)보다 이르면 올림
+    // (댓글 삭제 시각처럼 원본에 남지 않는 활동이 있으므로 되돌리지는 않음)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE task t LEFT JOIN (" +
+            "SELECT task_id, COUNT(*) AS cnt, MAX(created_at) AS last_comment_at FROM comment " +
+            "WHERE task_id BETWEEN :fromId AND :toId GROUP BY task_id) c ON c.task_id = t.id " +
+            "SET t.comment_count = COALESCE(c.cnt, 0), " +
+            "t.last_activity_at = GREATEST(COALESCE(t.last_activity_at, t.updated_at, t.created_at), " +
+            "COALESCE(t.updated_at, t.created_at), COALESCE(c.last_comment_at, t.updated_at, t.created_at)) " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.comment_count <> COALESCE(c.cnt, 0) OR t.last_activity_at IS NULL " +
+            "OR t.last_activity_at < GREATEST(COALESCE(t.updated_at, t.created_at), " +
+            "COALESCE(c.last_comment_at, t.updated_at, t.created_at)))", nativeQuery = true)
+    int rebuildActivityCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 업무 수정/상태 변경/삭제: 집계 증감의 기준이 되는 변경 전 값을 잠가 읽음 (동시에 같은 업무를 바꾸면 두 번 세지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findForUpdateById(@Param("id") Long id);
+
+    // 일괄 작업 대상: 프로젝트에 속한 업무의 현재 상태만 조회 (엔티티를 읽지 않음)
+    // 변경 전 값으로 집계 증감을 계산하므로 ID 순서로 잠가 읽음 (단건 수정/삭제와 잠금 순서도 같음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS id, t.title AS title, t.status AS status, t.priority AS priority, " +
+            "a.id AS assigneeId, t.dueDate AS dueDate, t.completedAt AS completedAt " +
+            "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId AND t.id IN :ids ORDER BY t.id")
+    List<StateView> findStatesByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // 일괄 변경: @UpdateTimestamp 가 적용되지 않으므로 수정 시각을 직접 기록
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.completedAt = :completedAt, t.updatedAt = :at, t.lastActivityAt = :at " +
+            "WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Status status,
+                           @Param("completedAt") LocalDateTime completedAt, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :at, t.lastActivityAt = :at WHERE t.id IN :ids")
+    int updatePriorityByIdIn(@Param("ids") Collection<Long> ids, @Param("priority") TaskPriority priority, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.dueDate = :dueDate, t.updatedAt = :at, t.lastActivityAt = :at WHERE t.id IN :ids")
+    int updateDueDateByIdIn(@Param("ids") Collection<Long> ids, @Param("dueDate") LocalDate dueDate, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :at, t.lastActivityAt = :at WHERE t.id IN :ids")
+    int updateAssigneeByIdIn(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = NULL, t.updatedAt = :at, t.lastActivityAt = :at WHERE t.id IN :ids")
+    int clearAssigneeByIdIn(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 활동 로그 문장용으로 ID와 현재 제목만 조회
+    List<TitleView> findTitlesByIdIn(Collection<Long> ids);
+
+    // 정밀 마감 알림: 시작 시 마감일이 남은 진행 중 업무를 ID 순서로 청크 적재
+    @Query("SELECT new com.example.backend.dto.DueTaskReminder(t.id, t.title, t.project.id, t.assignee.id, t.dueDate) " +
+            "FROM Task t " +
+            "WHERE t.assignee IS NOT NULL AND t.dueDate >= :from AND t.status <> :status AND t.id > :afterId " +
+            "AND t.project.deletedAt IS NULL " +
+            "ORDER BY t.id ASC")
+    List<DueTaskReminder> findPendingReminderChunk(@Param("from") LocalDate from,
+                                                   @Param("status") Status status,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    // 정밀 마감 알림: 알림 시각이 된 업무가 아직 유효한지 다시 확인
+    @Query("SELECT new com.example.backend.dto.DueTaskReminder(t.id, t.title, t.project.id, t.assignee.id, t.dueDate) " +
+            "FROM Task t " +
+            "WHERE t.id IN :taskIds AND t.assignee IS NOT NULL AND t.status <> :status AND t.project.deletedAt IS NULL")
+    List<DueTaskReminder> findReminderTargets(@Param("taskIds") Collection<Long> taskIds,
+                                              @Param("status") Status status);
+
+    // 마감 알림 대상 담당자: 마감이 가까운 진행 중 업무가 있는 사용자 (알림 설정 행 유무와 관계없이)
+    @Query("SELECT DISTINCT t.assignee.id FROM Task t " +
+            "WHERE t.dueDate BETWEEN :start AND :end AND t.status <> :status AND t.assignee IS NOT NULL " +
+            "AND t.project.deletedAt IS NULL " +
+            "ORDER BY t.assignee.id")
+    List<Long> findDueAssigneeIds(@Param("start") LocalDate start,
+                                  @Param("end") LocalDate end,
+                                  @Param("status") Status status);
+
+    // 마감 알림: 이번 발송 슬롯에 배정된 담당자들의 마감 임박 업무를 (담당자 ID, 업무 ID) 순서로 청크 조회
+    // idx_task_assignee_due 로 담당자별 마감일 구간만 읽고, 정렬은 그 결과(며칠 치 업무)에서만 함
+    @Query("SELECT new com.example.backend.dto.DueTaskReminder(t.id, t.title, t.project.id, t.assignee.id, t.dueDate) " +
+            "FROM Task t " +
+            "WHERE t.assignee.id IN :assigneeIds AND t.dueDate BETWEEN :start AND :end AND t.status <> :status " +
+            "AND t.project.deletedAt IS NULL " +
+            "AND (t.assignee.id > :afterAssigneeId OR (t.assignee.id = :afterAssigneeId AND t.id > :afterId)) " +
+            "ORDER BY t.assignee.id ASC, t.id ASC")
+    List<DueTaskReminder> findDueReminderChunk(@Param("assigneeIds") Collection<Long> assigneeIds,
+                                               @Param("start") LocalDate start,
+                                               @Param("end") LocalDate end,
+                                               @Param("status") Status status,
+                                               @Param("afterAssigneeId") Long afterAssigneeId,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    // 요약 메일: 여러 사용자의 새로 할당된 업무를 한 번에 조회
+    @Query("SELECT new com.example.backend.dto.DigestItem(a.id, p.id, p.name, t.id, t.title) " +
+            "FROM Task t JOIN t.project p JOIN t.assignee a " +
+            "WHERE a.id IN :userIds AND t.status <> com.example.backend.entity.Status.DONE AND t.createdAt > :since " +
+            "AND EXISTS (SELECT pm.id FROM ProjectMember pm WHERE pm.project = p AND pm.user = a " +
+            "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED) " +
+            "ORDER BY a.id, p.id, t.id")
+    List<DigestItem> findNewTaskDigestItems(@Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since);
+
+    // 요약 메일: 여러 사용자의 완료된 업무를 한 번에 조회
+    @Query("SELECT new com.example.backend.dto.DigestItem(a.id, p.id, p.name, t.id, t.title) " +
+            "FROM Task t JOIN t.project p JOIN t.assignee a " +
+            "WHERE a.id IN :userIds AND t.status = com.example.backend.entity.Status.DONE AND t.updatedAt > :since " +
+            "AND EXISTS (SELECT pm.id FROM ProjectMember pm WHERE pm.project = p AND pm.user = a " +
+            "AND pm.invitationStatus = com.example.backend.entity.project.ProjectInvitationStatus.ACCEPTED) " +
+            "ORDER BY a.id, p.id, t.id")
+    List<DigestItem> findCompletedTaskDigestItems(@Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since);
+
+    interface StateView {
+        Long getId();
+        String getTitle();
+        Status getStatus();
+        TaskPriority getPriority();
+        Long getAssigneeId();
+        LocalDate getDueDate();
+        LocalDateTime getCompletedAt();
+    }
+
+    interface TitleView {
+        Long getId();
+        String getTitle();
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface  UserRepository extends JpaRepository<User, Long> {
@@ -13,4 +15,22 @@ public interface  UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailVerificationToken(String token);
 
+    // 메일 발송용으로 ID와 이메일만 조회
+    List<EmailView> findByIdIn(Collection<Long> ids);
+
+    // 활동 로그 문장용으로 ID와 이름만 조회
+    List<NameView> findNamesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.userProfile WHERE u.id IN :ids")
+    List<User> findWithProfileByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface EmailView {
+        Long getId();
+        String getEmail();
+    }
+
+    interface NameView {
+        Long getId();
+        String getName();
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.user.UserWorkload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface UserWorkloadRepository extends JpaRepository<UserWorkload, Long> {
+
+    @Query("SELECT MAX(w.userId) FROM UserWorkload w")
+    Long findMaxUserId();
+}
@@ -0,0 +1,81 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.ActivityLogMigrationService;
+import com.example.backend.service.ActivityLogMigrationService.ChunkResult;
+import com.example.backend.service.SchedulerLeaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+// 시작 후 백그라운드에서 이전 활동 로그를 청크 단위로 변환 (여러 서버 중 한 곳에서만, 중단되면 다음 시작 때 이어서)
+@Component
+public class ActivityLogMigrationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogMigrationRunner.class);
+    private static final String RUN_KEY = "v1";
+
+    private final ActivityLogMigrationService migrationService;
+    private final SchedulerLeaseService leaseService;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMs;
+
+    public ActivityLogMigrationRunner(ActivityLogMigrationService migrationService,
+                                      SchedulerLeaseService leaseService,
+                                      @Value("${activity-log.migration.enabled:false}") boolean enabled,
+                                      @Value("${activity-log.migration.chunk-size:1000}") int chunkSize,
+                                      @Value("${activity-log.migration.pause-ms:100}") long pauseMs) {
+        this.migrationService = migrationService;
+        this.leaseService = leaseService;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            leaseService.runExclusive(ActivityLogMigrationService.JOB_NAME, RUN_KEY, this::migrateAll);
+        } catch (Exception e) {
+            logger.error("활동 로그 변환 실패 (다음 시작 때 이어서 진행)", e);
+        }
+    }
+
+    private void migrateAll() {
+        migrationService.prepareSchema();
+        long scanned = 0;
+        long converted = 0;
+        ChunkResult result;
+        do {
+            result = migrationService.migrateChunk(chunkSize);
+            scanned += result.scanned();
+            converted += result.converted();
+            if (result.scanned() > 0) {
+                logger.info("활동 로그 변환 진행 | 확인 {}건, 변환 {}건", scanned, converted);
+                if (!leaseService.renew(ActivityLogMigrationService.JOB_NAME)) {
+                    throw new IllegalStateException("활동 로그 변환 임대를 잃었습니다.");
+                }
+                pause();
+            }
+        } while (result.scanned() > 0);
+        logger.info("활동 로그 변환 완료 | 확인 {}건, 변환 {}건, 문장 유지 {}건", scanned, converted, scanned - converted);
+    }
+
+    // 운영 중 DB 부하를 줄이기 위해 청크 사이에 잠시 쉼
+    private void pause() {
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("활동 로그 변환이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.ActivityLogTieringService;
+import com.example.backend.service.ActivityLogTieringService.SegmentResult;
+import com.example.backend.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 오래된 활동 로그를 DB(핫)에서 세그먼트 파일(콜드)로 옮겨 InnoDB 작업 집합을 작게 유지
+@Component
+@RequiredArgsConstructor
+public class ActivityLogTieringScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogTieringScheduler.class);
+    private static final String JOB_NAME = "activity-log-tiering";
+
+    private final ActivityLogTieringService tieringService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${activity-log.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${activity-log.archive.hot-days:180}")
+    private int hotDays;
+
+    @Scheduled(cron = "${activity-log.archive.cron:0 10 4 * * *}")
+    public void moveColdLogs() {
+        if (!enabled) {
+            return;
+        }
+        leaseService.runExclusive(JOB_NAME, LocalDate.now().toString(), this::moveAll);
+    }
+
+    private void moveAll() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(hotDays).atStartOfDay();
+        List<Long> projectIds = tieringService.findProjectsWithLogsBefore(cutoff);
+        long started = System.currentTimeMillis();
+        long rows = 0;
+        int segments = 0;
+        int failedProjects = 0;
+
+        for (Long projectId : projectIds) {
+            try {
+                SegmentResult result;
+                do {
+                    result = tieringService.moveSegment(projectId, cutoff);
+                    if (result.rows() > 0) {
+                        rows += result.rows();
+                        segments++;
+                        logger.debug("활동 로그 세그먼트 기록 | 프로젝트 ID: {}, {}건, 파일: {}", projectId, result.rows(), result.segment());
+                    }
+                } while (result.rows() > 0);
+            } catch (Exception e) {
+                failedProjects++;
+                logger.error("활동 로그 콜드 이동 실패 | 프로젝트 ID: {}", projectId, e);
+            }
+            if (!leaseService.renew(JOB_NAME)) {
+                throw new IllegalStateException("활동 로그 콜드 이동 임대를 잃었습니다.");
+            }
+        }
+        logger.info("활동 로그 콜드 이동 완료 | 기준: {}, 프로젝트 {}개, {}건, 세그먼트 {}개, 실패 {}개, {}ms",
+                cutoff, projectIds.size(), rows, segments, failedProjects, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.CounterRepairService;
+import com.example.backend.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 업무 댓글 수/최근 활동 시각, 프로젝트 상태별 업무 수/통계, 사용자 업무량 같은 집계 값이 원본과 어긋난 경우를 주기적으로 바로잡음
+@Component
+@RequiredArgsConstructor
+public class CounterRepairScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterRepairScheduler.class);
+
+    private final CounterRepairService repairService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${counters.repair.enabled:true}")
+    private boolean enabled;
+
+    @Value("${counters.repair.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${counters.repair.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Scheduled(cron = "${counters.repair.cron:0 40 4 * * *}")
+    public void repairCounters() {
+        if (!enabled) {
+            return;
+        }
+        leaseService.runExclusive("task-counter-repair", LocalDate.now().toString(), this::repairAll);
+    }
+
+    private void repairAll() {
+        repairRange("업무 댓글 수/최근 활동 시각", repairService.maxTaskId(), repairService::repairTaskCounters);
+        repairRange("프로젝트 상태별 업무 수", repairService.maxProjectId(), repairService::repairProjectStatusCounters);
+        repairRange("프로젝트 통계", repairService.maxProjectId(), repairService::repairProjectStats);
+        repairRange("사용자 업무량", repairService.maxWorkloadUserId(), repairService::repairUserWorkloads);
+    }
+
+    private void repairRange(String label, long maxId, RangeRepair repair) {
+        long started = System.currentTimeMillis();
+        long repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += repair.run(fromId, fromId + chunkSize - 1);
+            if (!pauseBetweenChunks()) {
+                break;
+            }
+        }
+        if (repaired > 0) {
+            logger.warn("집계 값 복구 | {}: 수정 {}건 (최대 ID {}), {}ms", label, repaired, maxId, System.currentTimeMillis() - started);
+        } else {
+            logger.info("집계 값 확인 완료 | {}: 최대 ID {}, {}ms", label, maxId, System.currentTimeMillis() - started);
+        }
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeRepair {
+        int run(long fromId, long toId);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.dto.DueTaskReminder;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.Task;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.service.DueDateReminderService;
+import com.example.backend.service.DueDateReminderService.PreciseReminder;
+import com.example.backend.service.SchedulerLeaseService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 업무 마감 알림 시각을 메모리의 타이밍 휠에 보관하고, 시각이 된 알림만 DB에서 확인 후 발송
+// 틱은 전용 스레드에서 돌림 (@Scheduled 작업은 스레드 하나를 함께 써서, 청크로 오래 도는 정리 작업이 알림 시각을 밀어냄)
+@Component
+public class DueReminderWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger(DueReminderWheel.class);
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final DueDateReminderService reminderService;
+    private final SchedulerLeaseService leaseService;
+    private final boolean enabled;
+    private final List<Duration> offsets;
+    private final LocalTime dueTime;
+    private final long tickMs;
+    private final long retryDelayMs;
+    private final ScheduledExecutorService ticker;
+    private final TimingWheel<PreciseReminder> wheel;
+    private final Map<Long, List<TimingWheel.Entry<PreciseReminder>>> entriesByTaskId = new ConcurrentHashMap<>();
+
+    public DueReminderWheel(TaskRepository taskRepository,
+                            DueDateReminderService reminderService,
+                            SchedulerLeaseService leaseService,
+                            @Value("${notification.due-reminder.enabled:true}") boolean enabled,
+                            @Value("${notification.due-reminder.offsets:24h,1h}") String offsets,
+                            @Value("${notification.due-reminder.due-time:18:00}") String dueTime,
+                            @Value("${notification.due-reminder.tick-ms:1000}") long tickMs,
+                            @Value("${notification.due-reminder.wheel-size:60}") int wheelSize,
+                            @Value("${notification.due-reminder.retry-delay-ms:60000}") long retryDelayMs) {
+        this.taskRepository = taskRepository;
+        this.reminderService = reminderService;
+        this.leaseService = leaseService;
+        this.enabled = enabled;
+        this.offsets = Arrays.stream(offsets.split(","))
+                .map(String::trim)
+                .filter(offset -> !offset.isEmpty())
+                .map(DurationStyle::detectAndParse)
+                .toList();
+        this.dueTime = LocalTime.parse(dueTime);
+        this.tickMs = tickMs;
+        this.retryDelayMs = retryDelayMs;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "due-reminder-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    // 시작 시 마감일이 남은 진행 중 업무를 ID 순서로 청크 조회해 휠에 적재한 뒤 틱 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        long afterId = 0L;
+        int tasks = 0;
+        List<DueTaskReminder> chunk;
+        do {
+            chunk = taskRepository.findPendingReminderChunk(today, Status.DONE, afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (DueTaskReminder task : chunk) {
+                schedule(task.getTaskId(), task.getDueDate());
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getTaskId();
+                tasks += chunk.size();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+        logger.info("마감 알림 타이밍 휠 적재 완료 | 업무 {}건, 예약 {}건", tasks, wheel.size());
+        ticker.scheduleAtFixedRate(this::tickSafely, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    // 업무 생성/수정 시 기존 예약을 지우고 현재 마감일 기준으로 다시 예약
+    public void schedule(Task task) {
+        schedule(task.getId(), task.getAssignee() != null, task.getStatus(), task.getDueDate());
+    }
+
+    // 엔티티를 읽지 않는 일괄 작업용: 바뀐 뒤의 담당자 유무/상태/마감일로 다시 예약
+    public void schedule(Long taskId, boolean assigned, Status status, LocalDate dueDate) {
+        if (!assigned || status == Status.DONE) {
+            cancel(taskId);
+            return;
+        }
+        schedule(taskId, dueDate);
+    }
+
+    public void cancel(Long taskId) {
+        List<TimingWheel.Entry<PreciseReminder>> entries = entriesByTaskId.remove(taskId);
+        if (entries != null) {
+            entries.forEach(wheel::cancel);
+        }
+    }
+
+    private void schedule(Long taskId, LocalDate dueDate) {
+        cancel(taskId);
+        if (!enabled || dueDate == null) {
+            return;
+        }
+        long deadlineMs = deadlineMs(dueDate);
+        List<TimingWheel.Entry<PreciseReminder>> entries = new ArrayList<>(offsets.size());
+        for (Duration offset : offsets) {
+            // 이미 지난 알림 시각은 건너뜀
+            TimingWheel.Entry<PreciseReminder> entry = wheel.add(deadlineMs - offset.toMillis(), new PreciseReminder(taskId, dueDate, offset));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        if (!entries.isEmpty()) {
+            entriesByTaskId.put(taskId, entries);
+        }
+    }
+
+    // 예외가 나가면 ScheduledExecutorService 가 이후 틱을 멈추므로 여기서 삼킴
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            logger.error("마감 알림 틱 처리 실패", e);
+        }
+    }
+
+    void tick() {
+        List<PreciseReminder> fired = wheel.advanceTo(System.currentTimeMillis());
+        if (fired.isEmpty()) {
+            return;
+        }
+        for (PreciseReminder reminder : fired) {
+            entriesByTaskId.computeIfPresent(reminder.taskId(), (taskId, entries) -> {
+                List<TimingWheel.Entry<PreciseReminder>> remaining = new ArrayList<>(entries);
+                remaining.removeIf(entry -> entry.getValue() == reminder);
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+        // 모든 서버의 휠이 같은 알림을 가질 수 있으므로 알림마다 한 서버만 선점해 발송
+        List<PreciseReminder> claimed = new ArrayList<>();
+        int attempted = 0;
+        int sent;
+        try {
+            for (PreciseReminder reminder : fired) {
+                if (leaseService.tryClaim(claimName(reminder), reminder.dueDate().toString())) {
+                    claimed.add(reminder);
+                }
+                attempted++;
+            }
+            sent = reminderService.sendPreciseReminders(claimed);
+        } catch (Exception e) {
+            // 선점한 알림과 선점을 시도하지 못한 알림은 다시 시도 (다른 서버가 선점한 알림은 그 서버가 처리)
+            List<PreciseReminder> failed = new ArrayList<>(claimed);
+            failed.addAll(fired.subList(attempted, fired.size()));
+            try {
+                claimed.forEach(reminder -> leaseService.releaseClaim(claimName(reminder)));
+            } catch (Exception releaseError) {
+                logger.warn("정밀 마감 알림 선점 해제 실패 (만료 후 다시 선점 가능)", releaseError);
+            }
+            int retried = retryLater(failed);
+            logger.error("정밀 마감 알림 발송 실패 | {}건, 다시 시도 {}건", failed.size(), retried, e);
+            return;
+        }
+        // 알림이 커밋된 뒤에만 선점을 완료로 기록 (그 전에 실패하면 다시 선점해 발송할 수 있음)
+        try {
+            claimed.forEach(reminder -> leaseService.completeClaim(claimName(reminder)));
+        } catch (Exception e) {
+            logger.warn("정밀 마감 알림 선점 완료 기록 실패 | {}건", claimed.size(), e);
+        }
+        logger.info("정밀 마감 알림 발송 | 시각 도달 {}건, 발송 {}건", fired.size(), sent);
+    }
+
+    // 발송에 실패한 알림은 마감 전까지 잠시 뒤 다시 시도
+    private int retryLater(List<PreciseReminder> reminders) {
+        long retryAtMs = System.currentTimeMillis() + retryDelayMs;
+        int retried = 0;
+        for (PreciseReminder reminder : reminders) {
+            if (retryAtMs >= deadlineMs(reminder.dueDate())) {
+                continue;
+            }
+            TimingWheel.Entry<PreciseReminder> entry = wheel.add(retryAtMs, reminder);
+            if (entry != null) {
+                entriesByTaskId.merge(reminder.taskId(), List.of(entry), (current, added) -> {
+                    List<TimingWheel.Entry<PreciseReminder>> merged = new ArrayList<>(current);
+                    merged.addAll(added);
+                    return merged;
+                });
+                retried++;
+            }
+        }
+        return retried;
+    }
+
+    private long deadlineMs(LocalDate dueDate) {
+        return dueDate.atTime(dueTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String claimName(PreciseReminder reminder) {
+        return "due-reminder:" + reminder.taskId() + ":" + reminder.offset();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.NotificationRetentionService;
+import com.example.backend.service.NotificationRetentionService.ChunkResult;
+import com.example.backend.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionScheduler.class);
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NotificationRetentionService retentionService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.retention.read-days:90}")
+    private int readRetentionDays;
+
+    @Value("${notification.retention.unread-days:365}")
+    private int unreadRetentionDays;
+
+    @Value("${notification.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${notification.retention.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    // 오래된 알림 정리 (읽은 알림 / 읽지 않은 알림 각각 보관 기간 적용)
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void purgeExpiredNotifications() {
+        if (!enabled) {
+            return;
+        }
+        leaseService.runExclusive("notification-retention", LocalDate.now().toString(), this::purgeAll);
+    }
+
+    private void purgeAll() {
+        LocalDateTime now = LocalDateTime.now();
+        Path archiveFile = retentionService.resolveArchiveFile(now);
+
+        PurgeStats readStats = purge(true, now.minusDays(readRetentionDays), archiveFile);
+        PurgeStats unreadStats = purge(false, now.minusDays(unreadRetentionDays), archiveFile);
+
+        logger.info("알림 보관 정책 정리 완료 | 읽음: {}건 ({}청크, 평균 {}ms, 최대 {}ms), 안읽음: {}건 ({}청크, 평균 {}ms, 최대 {}ms)",
+                readStats.rows, readStats.chunks, readStats.averageMillis(), readStats.maxMillis,
+                unreadStats.rows, unreadStats.chunks, unreadStats.averageMillis(), unreadStats.maxMillis);
+    }
+
+    private PurgeStats purge(boolean isRead, LocalDateTime before, Path archiveFile) {
+        PurgeStats stats = new PurgeStats();
+        LocalDateTime afterCreatedAt = EPOCH;
+        Long afterId = 0L;
+
+        while (true) {
+            long started = System.nanoTime();
+            ChunkResult result;
+            try {
+                result = retentionService.purgeChunk(isRead, before, afterCreatedAt, afterId, chunkSize, archiveFile);
+            } catch (Exception e) {
+                logger.error("알림 정리 청크 처리 실패 | 읽음 여부: {}, 마지막 ID: {}", isRead, afterId, e);
+                break;
+            }
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            if (result.scanned() == 0) {
+                break;
+            }
+            stats.record(result.deleted(), elapsedMillis);
+            afterCreatedAt = result.lastCreatedAt();
+            afterId = result.lastId();
+
+            if (!pauseBetweenChunks()) {
+                break;
+            }
+        }
+        return stats;
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class PurgeStats {
+        private long rows;
+        private int chunks;
+        private long totalMillis;
+        private long maxMillis;
+
+        void record(int deleted, long elapsedMillis) {
+            rows += deleted;
+            chunks++;
+            totalMillis += elapsedMillis;
+            maxMillis = Math.max(maxMillis, elapsedMillis);
+        }
+
+        long averageMillis() {
+            return chunks == 0 ? 0 : totalMillis / chunks;
+        }
+    }
+}
@@ -1,137 +1,159 @@
 package com.example.backend.scheduler;
 
-import com.example.backend.entity.Status;
-import com.example.backend.entity.comment.Comment;
-import com.example.backend.entity.notification.NotificationSettings;
-import com.example.backend.entity.notification.NotificationType;
-import com.example.backend.entity.project.Project;
-import com.example.backend.entity.task.Task;
-import com.example.backend.entity.user.User;
-import com.example.backend.repository.CommentRepository;
-import com.example.backend.repository.NotificationSettingsRepository;
-import com.example.backend.repository.ProjectRepository;
-import com.example.backend.repository.TaskRepository;
-import com.example.backend.service.EmailService;
-import com.example.backend.service.NotificationService;
+import com.example.backend.service.DeliverySlotCursorService;
+import com.example.backend.service.DeliverySlotPlanner;
+import com.example.backend.service.DigestService;
+import com.example.backend.service.DueDateReminderService;
+import com.example.backend.service.NotificationSettingsCache;
+import com.example.backend.service.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationScheduler {
 
-    private final TaskRepository taskRepository;
-    private final NotificationService notificationService;
-    private final NotificationSettingsRepository settingsRepository;
-    private final EmailService emailService;
-    private final CommentRepository commentRepository;
-    private final ProjectRepository projectRepository;
-
-    @Value("${frontend.base-url}")
-    private String frontendBaseUrl;
-
-    @Scheduled(cron = "0 0 9 * * *")
-    public void checkTaskDueDates() {
-        LocalDate today = LocalDate.now();
-        LocalDate threeDaysFromNow = today.plusDays(3);
-
-        List<Task> upcomingTasks = taskRepository.findByDueDateBetweenAndStatusNot(today, threeDaysFromNow, Status.DONE);
-
-        for (Task task : upcomingTasks) {
-            if (task.getAssignee() != null) {
-
-                long daysUntilDue = ChronoUnit.DAYS.between(today, task.getDueDate());
-                String dayDescription;
-
-                if (daysUntilDue == 0) {
-                    dayDescription = "마감 기한이 오늘까지입니다.";
-                } else if (daysUntilDue == 1) {
-                    dayDescription = "마감 기한이 하루 남았습니다.";
-                } else {
-                    dayDescription = String.format("마감 기한이 %d일 남았습니다.", daysUntilDue);
+    private static final Logger logger = LoggerFactory.getLogger(NotificationScheduler.class);
+    private static final int ASSIGNEE_QUERY_SIZE = 1000;
+    private static final String DUE_DATE_JOB = "due-date-reminder";
+    private static final String DAILY_DIGEST_JOB = "daily-digest";
+    private static final String WEEKLY_DIGEST_JOB = "weekly-digest";
+
+    private final NotificationSettingsCache settingsCache;
+    private final DigestService digestService;
+    private final DeliverySlotPlanner slotPlanner;
+    private final DeliverySlotCursorService slotCursorService;
+    private final DueDateReminderService reminderService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${scheduler.digest-shards:4}")
+    private int digestShards;
+
+    @Value("${notification.due-date.chunk-size:500}")
+    private int reminderChunkSize;
+
+    // 끝나지 않은 슬롯을 다시 시도하는 기간 (슬롯 수): 지나면 오류로 남기고 다음 슬롯으로 넘어감
+    @Value("${notification.delivery.max-retry-slots:4}")
+    private int maxRetrySlots;
+
+    // 발송 슬롯마다 실행: 마지막으로 끝낸 슬롯 다음부터 현재 슬롯까지 차례로 처리
+    // 실행이 늦거나 앞 실행이 길어져 건너뛴 슬롯도 다음 실행에서 처리되므로 해당 사용자의 알림이 빠지지 않음
+    // 슬롯의 작업(마감 알림, 요약 샤드)이 모두 끝나야 다음 슬롯으로 넘어가고, 실패하거나 다른 서버가 처리 중인 슬롯은 다음 실행에서 다시 확인
+    @Scheduled(cron = "${notification.delivery.dispatch-cron:0 */15 * * * *}")
+    public void dispatchDeliverySlot() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        int currentSlot = slotPlanner.slotOf(now.toLocalTime());
+        for (int slot : slotCursorService.pendingSlots(today, currentSlot)) {
+            if (slot != currentSlot) {
+                logger.info("지난 발송 슬롯 처리 | 슬롯: {}, 현재 슬롯: {}", slot, currentSlot);
+            }
+            if (!dispatchSlot(today, slot, now)) {
+                if (currentSlot - slot < maxRetrySlots) {
+                    return;
                 }
-                String message = String.format("업무 '<strong>%s</strong>'의 %s", task.getTitle(), dayDescription);
-                String link = String.format(frontendBaseUrl + "/dashboard/project/%d?taskId=%d", task.getProject().getId(), task.getId());
-
-                notificationService.createAndSendNotification(
-                        task.getAssignee(),
-                        NotificationType.TASK_DUE_DATE,
-                        message,
-                        link,
-                        task.getAssignee()
-                );
+                logger.error("발송 슬롯을 끝내지 못해 건너뜀 | 슬롯: {}, 현재 슬롯: {}", slot, currentSlot);
             }
+            slotCursorService.advance(today, slot);
         }
     }
 
-    @Scheduled(cron = "0 0 9 * * *")
-    public void sendDailyDigests() {
-        List<NotificationSettings> usersToNotify = settingsRepository.findByDailyDigestTrue();
-        LocalDateTime since = LocalDateTime.now().minusHours(24);
-
-        for (NotificationSettings setting : usersToNotify) {
-            sendDigestEmailForUser(setting.getUser(), since, "일일");
+    // 슬롯의 모든 작업이 (이 서버나 다른 서버에서) 끝났으면 true
+    private boolean dispatchSlot(LocalDate today, int slot, LocalDateTime now) {
+        // 여러 서버가 같은 슬롯을 실행해도 임대를 얻은 서버만 처리
+        // 임대는 슬롯마다 따로 두어, 뒤 슬롯이 끝나도 앞 슬롯의 완료 여부가 덮이지 않음
+        String runKey = today + "#" + slot;
+        String dueDateLease = SchedulerLeaseService.runLeaseName(DUE_DATE_JOB, runKey);
+        String dailyDigestLease = SchedulerLeaseService.runLeaseName(DAILY_DIGEST_JOB, runKey);
+        String weeklyDigestLease = SchedulerLeaseService.runLeaseName(WEEKLY_DIGEST_JOB, runKey);
+        boolean weekly = today.getDayOfWeek() == DayOfWeek.MONDAY;
+
+        runSafely("마감 알림", slot, () ->
+                leaseService.runExclusive(dueDateLease, runKey, () -> checkTaskDueDates(today, slot, dueDateLease)));
+        runSafely("일일 요약", slot, () ->
+                leaseService.runSharded(dailyDigestLease, runKey, digestShards, shard -> sendDailyDigests(slot, now, shard)));
+        if (weekly) {
+            runSafely("주간 요약", slot, () ->
+                    leaseService.runSharded(weeklyDigestLease, runKey, digestShards, shard -> sendWeeklyDigests(slot, now, shard)));
         }
+        return leaseService.isCompleted(dueDateLease, runKey)
+                && leaseService.isShardedCompleted(dailyDigestLease, runKey, digestShards)
+                && (!weekly || leaseService.isShardedCompleted(weeklyDigestLease, runKey, digestShards));
     }
 
-    @Scheduled(cron = "0 0 9 * * MON")
-    public void sendWeeklyDigests() {
-        List<NotificationSettings> usersToNotify = settingsRepository.findByWeeklyDigestTrue();
-        LocalDateTime since = LocalDateTime.now().minusDays(7);
-
-        for (NotificationSettings setting : usersToNotify) {
-            sendDigestEmailForUser(setting.getUser(), since, "주간");
+    private void runSafely(String jobName, int slot, Runnable job) {
+        try {
+            job.run();
+        } catch (Exception e) {
+            logger.error("{} 슬롯 처리 실패 | 슬롯: {}", jobName, slot, e);
         }
     }
 
-    private void sendDigestEmailForUser(User user, LocalDateTime since, String digestType) {
-        List<Project> userProjects = projectRepository.findAcceptedProjectsByUserId(user.getId());
-        StringBuilder emailBody = new StringBuilder(String.format("<h1>지난 %s 동안 활동 요약</h1>", "하루".equals(digestType) ? "하루" : "일주일"));
-
-        boolean hasUpdates = false;
-
-        for (Project project : userProjects) {
-            List<Task> newTasks = taskRepository.findByProjectIdAndAssigneeAndStatusNotAndCreatedAtAfter(
-                    project.getId(), user, Status.DONE, since);
-
-            List<Task> completedTasks = taskRepository.findByProjectIdAndAssigneeAndStatusAndUpdatedAtAfter(
-                    project.getId(), user, Status.DONE, since);
-
-            List<Comment> newComments = commentRepository.findByTaskProjectIdAndTaskAssigneeAndUserNotAndCreatedAtAfter(
-                    project.getId(), user, user, since);
-            List<Task> tasksWithNewComments = newComments.stream().map(Comment::getTask).distinct().toList();
-
-            if (!newTasks.isEmpty() || !completedTasks.isEmpty() || !tasksWithNewComments.isEmpty()) {
-                hasUpdates = true;
-                emailBody.append(String.format("<h2>- %s -</h2>", project.getName()));
-                emailBody.append("<ul>");
-
-                buildSection(emailBody, "새로 할당된 업무", newTasks);
-                buildSection(emailBody, "완료된 업무", completedTasks);
-                buildSection(emailBody, "새로운 댓글이 달린 업무", tasksWithNewComments);
+    // 마감 알림: 담당자 ID 순으로 청크를 처리하며 진행 위치를 기록하므로 중단되어도 다음 실행에서 이어서 처리
+    void checkTaskDueDates(LocalDate today, int slot, String leaseName) {
+        reminderService.findUnfinishedSlot(today)
+                .filter(unfinishedSlot -> unfinishedSlot != slot)
+                .ifPresent(unfinishedSlot -> {
+                    logger.info("중단된 마감 알림 작업 재개 | 슬롯: {}", unfinishedSlot);
+                    runDueDateReminders(unfinishedSlot, today, leaseName);
+                });
+        runDueDateReminders(slot, today, leaseName);
+    }
 
-                emailBody.append("</ul>");
+    private void runDueDateReminders(int slot, LocalDate today, String leaseName) {
+        if (!reminderService.begin(today, slot)) {
+            return;
+        }
+        // 알림 설정 행이 없는 담당자도 기본 분산 구간의 슬롯으로 배정해 알림을 받도록 마감 업무 기준으로 대상 선정
+        List<Long> assigneeIds = slotPlanner.filterSlot(reminderService.findDueAssigneeIds(today), slot, settingsCache);
+        long lastAssigneeId = reminderService.lastAssigneeId();
+        int total = 0;
+
+        for (int from = 0; from < assigneeIds.size(); from += ASSIGNEE_QUERY_SIZE) {
+            List<Long> assigneeChunk = assigneeIds.subList(from, Math.min(from + ASSIGNEE_QUERY_SIZE, assigneeIds.size()));
+            if (assigneeChunk.get(assigneeChunk.size() - 1) < lastAssigneeId) {
+                continue;
             }
+            DueDateReminderService.ChunkResult result;
+            do {
+                result = reminderService.processChunk(assigneeChunk, today, reminderChunkSize);
+                total += result.processed();
+                // 임대를 잃었으면(다른 서버가 이어받음) 같은 담당자를 두 서버가 처리하지 않도록 중단
+                if (!leaseService.renew(leaseName)) {
+                    throw new IllegalStateException("마감 알림 임대를 잃었습니다. 슬롯: " + slot);
+                }
+            } while (result.processed() == reminderChunkSize);
+            lastAssigneeId = result.lastAssigneeId();
         }
-        if (hasUpdates) {
-            emailService.sendEmail(user.getEmail(), String.format("[TaskFlow] %s 요약", digestType), emailBody.toString());
+        reminderService.complete();
+        logger.info("마감 알림 처리 완료 | 슬롯: {}, 담당자 {}명, 알림 {}건", slot, assigneeIds.size(), total);
+    }
+
+    void sendDailyDigests(int slot, LocalDateTime now, int shard) {
+        List<Long> userIds = shardOf(slotPlanner.filterSlot(settingsCache.getDailyDigestUserIds(), slot, settingsCache), shard);
+        if (!userIds.isEmpty()) {
+            digestService.sendDigests(userIds, now.minusHours(24), "일일");
         }
     }
 
-    private void buildSection(StringBuilder builder, String title, List<Task> tasks) {
-        if (!tasks.isEmpty()) {
-            builder.append(String.format("<li><b>%s (%d건):</b> %s</li>",
-                    title,
-                    tasks.size(),
-                    tasks.stream().map(task -> "'" + task.getTitle() + "'").collect(Collectors.joining(", "))
-            ));
+    void sendWeeklyDigests(int slot, LocalDateTime now, int shard) {
+        List<Long> userIds = shardOf(slotPlanner.filterSlot(settingsCache.getWeeklyDigestUserIds(), slot, settingsCache), shard);
+        if (!userIds.isEmpty()) {
+            digestService.sendDigests(userIds, now.minusDays(7), "주간");
         }
     }
-}
\ No newline at end of file
+
+    private List<Long> shardOf(List<Long> userIds, int shard) {
+        return userIds.stream()
+                .filter(userId -> SchedulerLeaseService.inShard(userId, shard, digestShards))
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.ProjectPurgeService;
+import com.example.backend.service.ProjectPurgeService.PurgeTarget;
+import com.example.backend.service.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// 삭제 표시된 프로젝트를 주기적으로 찾아 하위 데이터를 작은 청크로 지우고 진행 상황을 기록
+@Component
+@RequiredArgsConstructor
+public class ProjectPurgeScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPurgeScheduler.class);
+    private static final String JOB_NAME = "project-purge";
+    // 이 청크 수마다 진행 상황을 INFO 로 남김
+    private static final int PROGRESS_LOG_CHUNKS = 20;
+
+    private final ProjectPurgeService purgeService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${projects.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${projects.purge.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Scheduled(cron = "${projects.purge.cron:0 */5 * * * *}")
+    public void purgeDeletedProjects() {
+        if (!enabled) {
+            return;
+        }
+        leaseService.runExclusive(JOB_NAME, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString(), this::purgeAll);
+    }
+
+    private void purgeAll() {
+        List<PurgeTarget> projects = purgeService.findDeletedProjects();
+        for (PurgeTarget project : projects) {
+            try {
+                if (!purge(project)) {
+                    logger.warn("프로젝트 삭제 중단 (임대 상실 또는 종료) | 프로젝트 ID: {}", project.projectId());
+                    return;
+                }
+            } catch (Exception e) {
+                logger.error("프로젝트 삭제 실패, 다음 실행에서 이어서 처리 | 프로젝트 ID: {}", project.projectId(), e);
+            }
+        }
+    }
+
+    // 끝까지 지웠으면 true, 중간에 멈췄으면 false (남은 행은 다음 실행에서 이어서 지움)
+    private boolean purge(PurgeTarget project) {
+        Long projectId = project.projectId();
+        long started = System.currentTimeMillis();
+        logger.info("프로젝트 삭제 시작 | ID: {}, 이름: '{}', 삭제 표시: {}, 업무 {}건",
+                projectId, project.name(), project.deletedAt(), project.tasks());
+
+        long tasks = 0;
+        int chunks = 0;
+        int deleted;
+        while ((deleted = purgeService.purgeTaskChunk(projectId)) > 0) {
+            tasks += deleted;
+            if (++chunks % PROGRESS_LOG_CHUNKS == 0) {
+                logger.info("프로젝트 삭제 진행 | ID: {}, 업무 {}/{}건", projectId, tasks, project.tasks());
+            }
+            if (!nextChunk()) {
+                return false;
+            }
+        }
+
+        while ((deleted = purgeService.purgeArchivedTaskChunk(projectId)) > 0) {
+            tasks += deleted;
+            if (++chunks % PROGRESS_LOG_CHUNKS == 0) {
+                logger.info("프로젝트 삭제 진행 | ID: {}, 업무 {}/{}건 (보관 포함)", projectId, tasks, project.tasks());
+            }
+            if (!nextChunk()) {
+                return false;
+            }
+        }
+
+        long logs = 0;
+        while ((deleted = purgeService.purgeActivityLogChunk(projectId)) > 0) {
+            logs += deleted;
+            if (++chunks % PROGRESS_LOG_CHUNKS == 0) {
+                logger.info("프로젝트 삭제 진행 | ID: {}, 업무 {}건 완료, 활동 로그 {}건", projectId, tasks, logs);
+            }
+            if (!nextChunk()) {
+                return false;
+            }
+        }
+
+        int segments = purgeService.purgeArchivedLogs(projectId);
+        purgeService.finish(projectId);
+        logger.info("프로젝트 삭제 완료 | ID: {}, 업무 {}건, 활동 로그 {}건, 세그먼트 {}개, {}ms",
+                projectId, tasks, logs, segments, System.currentTimeMillis() - started);
+        return true;
+    }
+
+    private boolean nextChunk() {
+        if (!leaseService.renew(JOB_NAME)) {
+            return false;
+        }
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.ActivityLogMigrationService;
+import com.example.backend.service.CounterRepairService;
+import com.example.backend.service.SchedulerLeaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// 배포에 딸린 스키마 변경/집계 채우기: 웹 요청과 예약 작업이 시작되기 전에 단계 순서대로 실행
+// 단계마다 임대로 한 서버만 실행하고 나머지 서버는 그 단계가 끝날 때까지 기다림 (끝난 단계는 다음 시작 때 건너뜀)
+// 실패하면 시작을 멈춰 바뀌기 전 스키마/집계로 요청을 받지 않게 함
+@Component
+public class SchemaUpgradeRunner implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaUpgradeRunner.class);
+    private static final String LEASE_PREFIX = "schema-upgrade:";
+    private static final String RUN_KEY = "v1";
+
+    // 단계 이름은 완료 기록의 키이므로 바꾸지 않음 (청크로 오래 걸리는 단계는 받은 renew 를 청크마다 호출)
+    private record Step(String name, Consumer<Runnable> action) {
+    }
+
+    private final SchedulerLeaseService leaseService;
+    private final ActivityLogMigrationService activityLogMigrationService;
+    private final CounterRepairService counterRepairService;
+    private final boolean enabled;
+    private final long pollMs;
+    private final long waitTimeoutMs;
+    private final int chunkSize;
+
+    public SchemaUpgradeRunner(SchedulerLeaseService leaseService,
+                               ActivityLogMigrationService activityLogMigrationService,
+                               CounterRepairService counterRepairService,
+                               @Value("${schema-upgrade.enabled:true}") boolean enabled,
+                               @Value("${schema-upgrade.poll-ms:2000}") long pollMs,
+                               @Value("${schema-upgrade.wait-timeout-ms:1800000}") long waitTimeoutMs,
+                               @Value("${schema-upgrade.chunk-size:1000}") int chunkSize) {
+        this.leaseService = leaseService;
+        this.activityLogMigrationService = activityLogMigrationService;
+        this.counterRepairService = counterRepairService;
+        this.enabled = enabled;
+        this.pollMs = pollMs;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.chunkSize = chunkSize;
+    }
+
+    private List<Step> steps() {
+        return List.of(
+                // 새 로그는 message 없이 params 만 저장하므로 변환 작업 설정과 상관없이 먼저 바꿔야 함
+                new Step("activitylog-params-columns", renew -> activityLogMigrationService.prepareSchema()),
+                new Step("activitylog-type-varchar", renew -> activityLogMigrationService.widenTypeColumn()),
+                // 컬럼을 추가하기 전부터 있던 업무는 댓글 수 0, 최근 활동 시각 없음으로 시작하므로 원본으로 채움
+                new Step("task-activity-counters", renew -> backfill(renew,
+                        counterRepairService.maxTaskId(), counterRepairService::repairTaskCounters)),
+                // 프로젝트 상태별 업무 수(목록 요약, 첫 페이지/보드 열 합계, 프로젝트 상태)도 0 으로 시작하므로 원본으로 채움
+                new Step("project-status-counters", renew -> backfill(renew,
+                        counterRepairService.maxProjectId(), counterRepairService::repairProjectStatusCounters)),
+                // 통계 테이블을 만들기 전부터 있던 업무는 증감으로 들어오지 않으므로 원본으로 채움
+                new Step("project-task-stats", renew -> backfill(renew,
+                        counterRepairService.maxProjectId(), counterRepairService::repairProjectStats))
+        );
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        for (Step step : steps()) {
+            runOrWait(step);
+        }
+    }
+
+    private void runOrWait(Step step) {
+        String leaseName = LEASE_PREFIX + step.name();
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (!leaseService.isCompleted(leaseName, RUN_KEY)) {
+            if (leaseService.runExclusive(leaseName, RUN_KEY, () -> run(step, leaseName))) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("다른 서버의 배포 단계가 끝나지 않았습니다: " + step.name());
+            }
+            logger.info("다른 서버의 배포 단계를 기다리는 중 | 단계: {}", step.name());
+            pause();
+        }
+    }
+
+    private void run(Step step, String leaseName) {
+        logger.info("배포 단계 시작 | 단계: {}", step.name());
+        long startedAt = System.currentTimeMillis();
+        step.action().accept(() -> {
+            if (!leaseService.renew(leaseName)) {
+                throw new IllegalStateException("배포 단계 임대를 잃었습니다: " + step.name());
+            }
+        });
+        logger.info("배포 단계 완료 | 단계: {}, {}ms", step.name(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 집계 채우기: 야간 보정 작업과 같은 ID 구간 단위 재계산을 처음부터 끝까지 한 번
+    private void backfill(Runnable renew, long maxId, RangeRepair repair) {
+        long updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            updated += repair.run(fromId, fromId + chunkSize - 1);
+            renew.run();
+        }
+        logger.info("집계 채우기 | 최대 ID {}, 바뀐 행 {}건", maxId, updated);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배포 단계 대기가 중단되었습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeRepair {
+        int run(long fromId, long toId);
+    }
+}
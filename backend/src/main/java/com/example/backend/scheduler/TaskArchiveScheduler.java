@@ -0,0 +1,73 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.SchedulerLeaseService;
+import com.example.backend.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 완료된 지 done-days 일이 지나고 그동안 활동이 없는 업무를 댓글과 함께 보관 테이블로 옮김 (청크마다 짧은 트랜잭션)
+@Component
+@RequiredArgsConstructor
+public class TaskArchiveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveScheduler.class);
+    private static final String JOB_NAME = "task-archive";
+
+    private final TaskArchiveService archiveService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${tasks.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasks.archive.done-days:30}")
+    private int doneDays;
+
+    @Value("${tasks.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${tasks.archive.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Scheduled(cron = "${tasks.archive.cron:0 20 4 * * *}")
+    public void archiveCompletedTasks() {
+        if (!enabled) {
+            return;
+        }
+        leaseService.runExclusive(JOB_NAME, LocalDate.now().toString(), this::archiveAll);
+    }
+
+    private void archiveAll() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(doneDays).atStartOfDay();
+        long started = System.currentTimeMillis();
+        long archived = 0;
+        int moved;
+        while ((moved = archiveService.archiveChunk(cutoff, chunkSize)) > 0) {
+            archived += moved;
+            if (!leaseService.renew(JOB_NAME) || !pauseBetweenChunks()) {
+                logger.warn("완료 업무 보관 중단 | 기준: {}, {}건까지 처리", cutoff, archived);
+                return;
+            }
+        }
+        logger.info("완료 업무 보관 완료 | 기준: {}, {}건, {}ms", cutoff, archived, System.currentTimeMillis() - started);
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
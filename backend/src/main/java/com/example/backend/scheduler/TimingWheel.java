@@ -0,0 +1,140 @@
+package com.example.backend.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 계층형 타이밍 휠: 추가/취소는 O(1), 만료 확인은 틱마다 해당 버킷만 확인
+// 가장 아래 단계를 넘는 만료 시각은 상위 단계에 넣었다가 시간이 다가오면 아래 단계로 내림
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다: tick=" + tickMs + ", size=" + wheelSize);
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        levels.add(new Level<>(tickMs, wheelSize));
+    }
+
+    public static final class Entry<T> {
+        private final long expirationMs;
+        private final T value;
+        private Set<Entry<T>> bucket;
+
+        private Entry(long expirationMs, T value) {
+            this.expirationMs = expirationMs;
+            this.value = value;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private static final class Level<T> {
+        private final long tickMs;
+        private final long intervalMs;
+        private final List<Set<Entry<T>>> buckets;
+
+        private Level(long tickMs, int wheelSize) {
+            this.tickMs = tickMs;
+            this.intervalMs = tickMs * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashSet<>());
+            }
+        }
+
+        private Set<Entry<T>> bucketFor(long timeMs) {
+            return buckets.get((int) ((timeMs / tickMs) % buckets.size()));
+        }
+    }
+
+    // 이미 만료된 시각이면 null을 반환 (호출한 쪽에서 바로 처리)
+    public synchronized Entry<T> add(long expirationMs, T value) {
+        Entry<T> entry = new Entry<>(expirationMs, value);
+        if (!place(entry)) {
+            return null;
+        }
+        size++;
+        return entry;
+    }
+
+    public synchronized void cancel(Entry<T> entry) {
+        if (entry != null && entry.bucket != null) {
+            entry.bucket.remove(entry);
+            entry.bucket = null;
+            size--;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 주어진 시각까지 틱을 진행하며 만료된 항목을 반환
+    public synchronized List<T> advanceTo(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            // 상위 단계 버킷의 구간이 시작되면 그 항목들을 아래 단계로 내림
+            for (int i = levels.size() - 1; i >= 1; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTime % level.tickMs == 0) {
+                    cascade(level.bucketFor(currentTime), expired);
+                }
+            }
+            cascade(levels.get(0).bucketFor(currentTime), expired);
+        }
+        return expired;
+    }
+
+    private void cascade(Set<Entry<T>> bucket, List<T> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<T> entry : entries) {
+            entry.bucket = null;
+            if (!place(entry)) {
+                size--;
+                expired.add(entry.value);
+            }
+        }
+    }
+
+    private boolean place(Entry<T> entry) {
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level<T> top = levels.get(i - 1);
+                levels.add(new Level<>(top.intervalMs, wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            long levelTime = currentTime - (currentTime % level.tickMs);
+            if (entry.expirationMs < levelTime + level.tickMs) {
+                // 가장 아래 단계에서 현재 틱 안에 들어오면 만료
+                return false;
+            }
+            if (entry.expirationMs < levelTime + level.intervalMs) {
+                Set<Entry<T>> bucket = level.bucketFor(entry.expirationMs);
+                bucket.add(entry);
+                entry.bucket = bucket;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.SchedulerLeaseService;
+import com.example.backend.service.UserWorkloadService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 자정에 사용자 업무량의 날짜 기준 값(마감 지남/오늘 마감/이번 주 완료)을 새 날짜로 넘김
+// 값이 그대로인 행은 기준 날짜만 옮기고, 옮기지 못한 행(값이 달라지는 사용자, 다시 계산 필요로 표시된 사용자)만 다시 계산
+@Component
+@RequiredArgsConstructor
+public class UserWorkloadRolloverScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserWorkloadRolloverScheduler.class);
+    private static final String JOB_NAME = "user-workload-rollover";
+
+    private final UserWorkloadService workloadService;
+    private final SchedulerLeaseService leaseService;
+
+    @Value("${workload.rollover.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${workload.rollover.cron:0 0 0 * * *}")
+    public void rollover() {
+        LocalDate today = LocalDate.now();
+        leaseService.runExclusive(JOB_NAME, today.toString(), () -> rolloverTo(today));
+    }
+
+    private void rolloverTo(LocalDate today) {
+        long started = System.currentTimeMillis();
+        long maxUserId = workloadService.maxUserId();
+        int moved = 0;
+        for (long fromId = 1; fromId <= maxUserId; fromId += chunkSize) {
+            moved += workloadService.markRolledOver(today, fromId, fromId + chunkSize - 1);
+            renew();
+        }
+        List<Long> userIds = workloadService.findStaleUserIds(today);
+        int recomputed = 0;
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            recomputed += workloadService.recompute(userIds.subList(from, Math.min(from + chunkSize, userIds.size())), today);
+            renew();
+        }
+        logger.info("사용자 업무량 날짜 갱신 완료 | 기준: {}, 다시 계산 {}명, 날짜만 갱신 {}명, {}ms",
+                today, recomputed, moved, System.currentTimeMillis() - started);
+    }
+
+    private void renew() {
+        if (!leaseService.renew(JOB_NAME)) {
+            throw new IllegalStateException("사용자 업무량 날짜 갱신 임대를 잃었습니다.");
+        }
+    }
+}
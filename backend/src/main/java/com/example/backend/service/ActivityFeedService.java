@@ -0,0 +1,218 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.repository.ActivityLogRepository;
+import com.example.backend.repository.ProjectMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 대시보드 최근 활동: 프로젝트별 최근 로그를 메모리에 짧게 보관하고, 사용자의 프로젝트들을 k-way 병합해 limit 건만 읽음
+// 다른 서버에서 쓴 로그도 보이도록 버퍼는 일정 시간이 지나면 다시 채우고, 한 요청에서 만료된 프로젝트들은 조회 한 번으로 함께 채움
+// 사용자의 참여 프로젝트 목록도 같이 보관하고 멤버가 바뀌면 비움 (다른 서버에서 바뀐 멤버는 보관 시간이 지나면 반영)
+@Service
+public class ActivityFeedService {
+
+    // 최신순 (createdAt, id 내림차순)
+    static final Comparator<ActivityLogResponse> NEWEST_FIRST = Comparator
+            .comparing(ActivityLogResponse::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ActivityLogResponse::getId, Comparator.reverseOrder());
+
+    private final ActivityLogRepository activityLogRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final int capacity;
+    private final long bufferTtlMs;
+    private final long membershipTtlMs;
+    private final Map<Long, ProjectBuffer> buffers;
+    private final Map<Long, Memberships> membershipsByUserId;
+
+    public ActivityFeedService(ActivityLogRepository activityLogRepository,
+                               ProjectMemberRepository projectMemberRepository,
+                               @Value("${activity-feed.per-project-capacity:20}") int capacity,
+                               @Value("${activity-feed.buffer-ttl-ms:30000}") long bufferTtlMs,
+                               @Value("${activity-feed.max-projects:10000}") int maxProjects,
+                               @Value("${activity-feed.membership-ttl-ms:60000}") long membershipTtlMs,
+                               @Value("${activity-feed.max-users:10000}") int maxUsers) {
+        this.activityLogRepository = activityLogRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.capacity = capacity;
+        this.bufferTtlMs = bufferTtlMs;
+        this.membershipTtlMs = membershipTtlMs;
+        this.buffers = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProjectBuffer> eldest) {
+                return size() > maxProjects;
+            }
+        });
+        this.membershipsByUserId = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Memberships> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    private record Memberships(List<Long> projectIds, long loadedAt) {
+    }
+
+    // 새 로그 반영 (버퍼가 아직 없는 프로젝트는 다음 조회 때 DB에서 채움)
+    public void append(ActivityLogResponse entry) {
+        if (entry.getId() == null) {
+            return;
+        }
+        ProjectBuffer buffer = buffers.get(entry.getProjectId());
+        if (buffer != null) {
+            buffer.add(entry);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivityLogResponse> getRecentForUser(Long userId, int limit) {
+        int size = Math.min(limit, capacity);
+        long now = System.currentTimeMillis();
+        List<Long> projectIds = projectIdsFor(userId, now);
+        List<List<ActivityLogResponse>> recentByProject = new ArrayList<>(projectIds.size());
+        List<Long> stale = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            ProjectBuffer buffer = buffers.get(projectId);
+            if (buffer != null && now - buffer.loadedAt < bufferTtlMs) {
+                recentByProject.add(buffer.snapshot());
+            } else {
+                stale.add(projectId);
+            }
+        }
+        recentByProject.addAll(reload(stale, now));
+        return merge(recentByProject, size);
+    }
+
+    // 초대 수락/멤버 제거처럼 참여 프로젝트가 바뀐 사용자 (커밋 뒤에 비워야 그사이 읽은 이전 목록이 다시 남지 않음)
+    public void evictMemberships(Long userId) {
+        runAfterCommit(() -> membershipsByUserId.remove(userId));
+    }
+
+    // 삭제된 프로젝트: 버퍼와 그 프로젝트가 들어 있는 참여 목록을 모두 비움
+    public void evictProject(Long projectId) {
+        runAfterCommit(() -> {
+            buffers.remove(projectId);
+            synchronized (membershipsByUserId) {
+                membershipsByUserId.values().removeIf(memberships -> memberships.projectIds().contains(projectId));
+            }
+        });
+    }
+
+    // 각 목록은 이미 최신순이므로 머리만 힙에 넣고 limit 번 꺼냄: O(limit log k)
+    static List<ActivityLogResponse> merge(List<List<ActivityLogResponse>> sortedLists, int limit) {
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> NEWEST_FIRST.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1])));
+        for (int i = 0; i < sortedLists.size(); i++) {
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        List<ActivityLogResponse> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<ActivityLogResponse> list = sortedLists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (head[1] + 1 < list.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+
+    private List<Long> projectIdsFor(Long userId, long now) {
+        Memberships memberships = membershipsByUserId.get(userId);
+        if (memberships != null && now - memberships.loadedAt() < membershipTtlMs) {
+            return memberships.projectIds();
+        }
+        List<Long> projectIds = List.copyOf(projectMemberRepository.findAcceptedProjectIdsByUserId(userId));
+        membershipsByUserId.put(userId, new Memberships(projectIds, now));
+        return projectIds;
+    }
+
+    // 만료된 프로젝트들을 조회 한 번으로 다시 채움 (프로젝트 하나뿐이면 인덱스를 타는 기존 페이지 조회)
+    private List<List<ActivityLogResponse>> reload(List<Long> projectIds, long now) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ActivityLogResponse>> recentByProject = new HashMap<>();
+        projectIds.forEach(projectId -> recentByProject.put(projectId, new ArrayList<>()));
+        List<ActivityLogResponse> rows = projectIds.size() == 1
+                ? activityLogRepository.findPage(projectIds.get(0), ActivityLogFilter.builder().limit(capacity).build())
+                : activityLogRepository.findRecentByProjectIds(projectIds, capacity);
+        rows.forEach(row -> recentByProject.get(row.getProjectId()).add(row));
+
+        List<List<ActivityLogResponse>> snapshots = new ArrayList<>(projectIds.size());
+        recentByProject.forEach((projectId, recent) -> {
+            recent.sort(NEWEST_FIRST);
+            ProjectBuffer loaded = new ProjectBuffer(capacity, recent, now);
+            buffers.put(projectId, loaded);
+            snapshots.add(loaded.snapshot());
+        });
+        return snapshots;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class ProjectBuffer {
+        private final int capacity;
+        private final long loadedAt;
+        private final List<ActivityLogResponse> entries;
+
+        private ProjectBuffer(int capacity, List<ActivityLogResponse> recent, long loadedAt) {
+            this.capacity = capacity;
+            this.loadedAt = loadedAt;
+            this.entries = new ArrayList<>(recent);
+        }
+
+        // 대부분 가장 최신이라 앞쪽에서 바로 자리를 찾음
+        synchronized void add(ActivityLogResponse entry) {
+            int index = 0;
+            while (index < entries.size()) {
+                ActivityLogResponse current = entries.get(index);
+                if (current.getId().equals(entry.getId())) {
+                    return;
+                }
+                if (NEWEST_FIRST.compare(entry, current) < 0) {
+                    break;
+                }
+                index++;
+            }
+            if (index >= capacity) {
+                return;
+            }
+            entries.add(index, entry);
+            if (entries.size() > capacity) {
+                entries.remove(entries.size() - 1);
+            }
+        }
+
+        synchronized List<ActivityLogResponse> snapshot() {
+            return List.copyOf(entries);
+        }
+    }
+}
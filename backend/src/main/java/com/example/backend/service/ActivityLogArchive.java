@@ -0,0 +1,159 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 콜드 활동 로그 저장소: <dir>/<프로젝트 ID>/*.als 세그먼트 파일
+// 세그먼트 목록(인덱스 포함)은 프로젝트별로 캐시하고, 디렉토리 수정 시각이 바뀌면 다시 읽음
+@Component
+public class ActivityLogArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogArchive.class);
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final Comparator<ActivityLogSegment.Entry> NEWEST_FIRST = Comparator
+            .comparing(ActivityLogSegment.Entry::createdAt, Comparator.reverseOrder())
+            .thenComparing(ActivityLogSegment.Entry::id, Comparator.reverseOrder());
+
+    private record ProjectSegments(long modifiedAt, List<ActivityLogSegment> segments) {
+    }
+
+    private final Path dir;
+    private final int blockSize;
+    private final Map<Long, ProjectSegments> segmentsByProject = new ConcurrentHashMap<>();
+
+    public ActivityLogArchive(@Value("${activity-log.archive.dir:./archive/activity-logs}") String dir,
+                              @Value("${activity-log.archive.block-size:256}") int blockSize) {
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        this.blockSize = blockSize;
+    }
+
+    public boolean hasSegments(Long projectId) {
+        return !segmentsOf(projectId).isEmpty();
+    }
+
+    // 여러 세그먼트에서 조건에 맞는 로그를 최신순으로 limit 건 (세그먼트를 최신순으로 보다가 더 볼 필요가 없으면 멈춤)
+    public List<ActivityLogSegment.Entry> findPage(Long projectId, ActivityLogFilter filter) {
+        int limit = filter.getLimit();
+        List<ActivityLogSegment.Entry> collected = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (ActivityLogSegment segment : segmentsOf(projectId)) {
+            if (collected.size() >= limit) {
+                ActivityLogSegment.Entry last = collected.get(limit - 1);
+                if (segment.isOlderThan(last.createdAt(), last.id())) {
+                    break;
+                }
+            }
+            try {
+                // 옮기는 중 중단되어 같은 로그가 두 세그먼트에 있을 수 있으므로 ID로 중복 제거
+                for (ActivityLogSegment.Entry entry : segment.read(filter, limit)) {
+                    if (seen.add(entry.id())) {
+                        collected.add(entry);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("활동 로그 세그먼트를 읽을 수 없습니다: " + segment.getPath(), e);
+            }
+            collected.sort(NEWEST_FIRST);
+        }
+        return collected.size() > limit ? new ArrayList<>(collected.subList(0, limit)) : collected;
+    }
+
+    // 새 세그먼트는 임시 파일로 쓰고 commit 에서 이름을 바꿔 공개
+    public ActivityLogSegment.Writer newWriter(Long projectId) throws IOException {
+        Path projectDir = dir.resolve(projectId.toString());
+        Files.createDirectories(projectDir);
+        String name = "segment-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return new ActivityLogSegment.Writer(projectDir.resolve(name + TEMP_EXTENSION), blockSize);
+    }
+
+    public Path commit(Long projectId, ActivityLogSegment.Writer writer) throws IOException {
+        String tempName = writer.getPath().getFileName().toString();
+        Path target = writer.getPath().resolveSibling(
+                tempName.substring(0, tempName.length() - TEMP_EXTENSION.length()) + ActivityLogSegment.EXTENSION);
+        Files.move(writer.getPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        segmentsByProject.remove(projectId);
+        return target;
+    }
+
+    public void discard(ActivityLogSegment.Writer writer) {
+        try {
+            Files.deleteIfExists(writer.getPath());
+        } catch (IOException e) {
+            logger.warn("임시 세그먼트 삭제 실패 | 파일: {}", writer.getPath(), e);
+        }
+    }
+
+    // 프로젝트를 영구 삭제할 때 세그먼트 파일과 디렉토리를 지움 (지운 파일 수 반환)
+    public int deleteSegments(Long projectId) {
+        Path projectDir = dir.resolve(projectId.toString());
+        if (!Files.isDirectory(projectDir)) {
+            return 0;
+        }
+        int deleted = 0;
+        try {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(projectDir)) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+            Files.deleteIfExists(projectDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("활동 로그 보관 디렉토리를 지울 수 없습니다: " + projectDir, e);
+        }
+        segmentsByProject.remove(projectId);
+        return deleted;
+    }
+
+    private List<ActivityLogSegment> segmentsOf(Long projectId) {
+        Path projectDir = dir.resolve(projectId.toString());
+        if (!Files.isDirectory(projectDir)) {
+            return List.of();
+        }
+        long modifiedAt;
+        try {
+            modifiedAt = Files.getLastModifiedTime(projectDir).toMillis();
+        } catch (IOException e) {
+            return List.of();
+        }
+        ProjectSegments cached = segmentsByProject.get(projectId);
+        if (cached != null && cached.modifiedAt() == modifiedAt) {
+            return cached.segments();
+        }
+        List<ActivityLogSegment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(projectDir, "*" + ActivityLogSegment.EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    segments.add(ActivityLogSegment.open(file));
+                } catch (IOException | RuntimeException e) {
+                    logger.error("활동 로그 세그먼트 열기 실패, 건너뜀 | 파일: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("활동 로그 보관 디렉토리를 읽을 수 없습니다: " + projectDir, e);
+        }
+        segments.sort(ActivityLogSegment::newestFirst);
+        List<ActivityLogSegment> loaded = List.copyOf(segments);
+        segmentsByProject.put(projectId, new ProjectSegments(modifiedAt, loaded));
+        return loaded;
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 활동 로그 지연 쓰기 버퍼: 호출 스레드는 큐에 넣기만 하고, 전용 스레드가 모아서 다건 INSERT
+@Component
+public class ActivityLogBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogBuffer.class);
+    private static final String INSERT_SQL =
+            "INSERT INTO activitylog (params, user_id, project_id, type, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    // 버퍼가 가득 찼을 때: BLOCK = 잠시 기다린 뒤 직접 저장, DROP = 버림, SYNC = 바로 직접 저장
+    public enum OverflowPolicy {
+        BLOCK, DROP, SYNC
+    }
+
+    // 기록 후 대시보드 피드에 바로 반영할 수 있도록 표시용 값(이름, 아바타, 프로젝트명)도 함께 보관
+    public record PendingLog(String params, Long userId, Long projectId, ActivityLogType type, LocalDateTime createdAt,
+                             String userName, String userAvatarUrl, String projectName) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityFeedService activityFeedService;
+    private final boolean enabled;
+    private final boolean afterCommit;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final BlockingQueue<PendingLog> queue;
+    private final Object flushLock = new Object();
+    private volatile boolean running;
+    private Thread flusher;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflowWrites = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong retriedWrites = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong bufferedCalls = new AtomicLong();
+    private final AtomicLong bufferedCallNanos = new AtomicLong();
+    private final AtomicLong syncCalls = new AtomicLong();
+    private final AtomicLong syncCallNanos = new AtomicLong();
+
+    public ActivityLogBuffer(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ActivityFeedService activityFeedService,
+                             @Value("${activity-log.write-behind.enabled:false}") boolean enabled,
+                             @Value("${activity-log.write-behind.after-commit:true}") boolean afterCommit,
+                             @Value("${activity-log.write-behind.capacity:10000}") int capacity,
+                             @Value("${activity-log.write-behind.batch-size:500}") int batchSize,
+                             @Value("${activity-log.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+                             @Value("${activity-log.write-behind.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                             @Value("${activity-log.write-behind.block-timeout-ms:50}") long blockTimeoutMs,
+                             @Value("${activity-log.write-behind.max-attempts:3}") int maxAttempts,
+                             @Value("${activity-log.write-behind.retry-backoff-ms:200}") long retryBackoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.activityFeedService = activityFeedService;
+        this.enabled = enabled;
+        this.afterCommit = afterCommit;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // true 면 호출 트랜잭션이 커밋된 뒤에 버퍼에 넣음 (false 면 즉시, 롤백돼도 로그가 남을 수 있음)
+    public boolean isAfterCommit() {
+        return afterCommit;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "activity-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("활동 로그 지연 쓰기 사용 | 용량 {}, 배치 {}건, 주기 {}ms, 초과 시 {}",
+                queue.remainingCapacity(), batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    // 종료 시 남은 로그를 모두 기록
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = drainAndWrite();
+        logger.info("활동 로그 버퍼 종료 | 종료 시 기록 {}건", remaining);
+        logStats();
+    }
+
+    public void enqueue(PendingLog log) {
+        if (queue.offer(log)) {
+            enqueued.incrementAndGet();
+            if (queue.size() >= batchSize) {
+                synchronized (flushLock) {
+                    flushLock.notifyAll();
+                }
+            }
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP -> {
+                dropped.incrementAndGet();
+                logger.warn("활동 로그 버퍼 가득 참, 로그 버림 | 프로젝트 ID: {}", log.projectId());
+            }
+            case BLOCK -> {
+                try {
+                    if (queue.offer(log, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        enqueued.incrementAndGet();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writeOverflow(log);
+            }
+            case SYNC -> writeOverflow(log);
+        }
+    }
+
+    // ActivityLogService 호출 시간 기록 (지연 쓰기 / 직접 저장 비교용)
+    public void recordCall(boolean buffered, long elapsedNanos) {
+        if (buffered) {
+            bufferedCalls.incrementAndGet();
+            bufferedCallNanos.addAndGet(elapsedNanos);
+        } else {
+            syncCalls.incrementAndGet();
+            syncCallNanos.addAndGet(elapsedNanos);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${activity-log.write-behind.stats-log-ms:300000}",
+            initialDelayString = "${activity-log.write-behind.stats-log-ms:300000}")
+    public void logStats() {
+        long calls = bufferedCalls.get();
+        long directCalls = syncCalls.get();
+        if (calls == 0 && directCalls == 0) {
+            return;
+        }
+        long flushCount = flushes.get();
+        logger.info("활동 로그 쓰기 통계 | 지연 쓰기 호출 {}건 (평균 {}us), 직접 저장 호출 {}건 (평균 {}us), " +
+                        "대기 {}건, 기록 {}건, 초과 직접 저장 {}건, 버림 {}건, 재시도 {}회, 실패 {}건, 플러시 {}회 (평균 {}ms, 최대 {}ms)",
+                calls, averageMicros(bufferedCallNanos.get(), calls),
+                directCalls, averageMicros(syncCallNanos.get(), directCalls),
+                queue.size(), written.get(), overflowWrites.get(), dropped.get(), retriedWrites.get(), failedWrites.get(),
+                flushCount, flushCount == 0 ? 0 : flushNanos.get() / flushCount / 1_000_000, maxFlushNanos.get() / 1_000_000);
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                if (queue.size() < batchSize) {
+                    synchronized (flushLock) {
+                        flushLock.wait(flushIntervalMs);
+                    }
+                }
+                drainAndWrite();
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } catch (Exception e) {
+                logger.error("활동 로그 플러시 실패", e);
+            }
+        }
+    }
+
+    private int drainAndWrite() {
+        int total = 0;
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            total += batch.size();
+            batch.clear();
+        }
+        return total;
+    }
+
+    // 일시적인 DB 오류에 대비해 간격을 늘려 가며 다시 시도하고, 그래도 실패하면 한 건씩 나눠 기록해 문제 있는 행만 버림
+    private void write(List<PendingLog> batch) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<Map<String, Object>> keys;
+            try {
+                keys = writeBatch(batch);
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    logger.error("활동 로그 일괄 기록 실패, 한 건씩 다시 기록 | {}건, {}회 시도", batch.size(), attempt, e);
+                    break;
+                }
+                retriedWrites.incrementAndGet();
+                logger.warn("활동 로그 일괄 기록 실패, 다시 시도 | {}건, {}회 시도: {}", batch.size(), attempt, e.getMessage());
+                if (!backoff(attempt)) {
+                    break;
+                }
+                continue;
+            }
+            appendToFeed(batch, keys);
+            return;
+        }
+        if (batch.size() == 1) {
+            failedWrites.incrementAndGet();
+            logger.error("활동 로그 기록 포기 | 프로젝트 ID: {}, 유형: {}", batch.get(0).projectId(), batch.get(0).type());
+            return;
+        }
+        for (PendingLog log : batch) {
+            List<Map<String, Object>> keys;
+            try {
+                keys = writeBatch(List.of(log));
+            } catch (Exception e) {
+                failedWrites.incrementAndGet();
+                logger.error("활동 로그 기록 포기 | 프로젝트 ID: {}, 유형: {}", log.projectId(), log.type(), e);
+                continue;
+            }
+            appendToFeed(List.of(log), keys);
+        }
+    }
+
+    // 한 트랜잭션으로 기록해, 실패하면 일부만 남지 않고 전체를 다시 시도할 수 있게 함 (생성된 ID 목록 반환)
+    private List<Map<String, Object>> writeBatch(List<PendingLog> batch) {
+        long started = System.nanoTime();
+        // rewriteBatchedStatements=true 이면 드라이버가 다건 INSERT 한 문장으로 보냄
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingLog log = batch.get(i);
+                        ps.setString(1, log.params());
+                        ps.setLong(2, log.userId());
+                        ps.setLong(3, log.projectId());
+                        ps.setString(4, log.type().name());
+                        ps.setTimestamp(5, Timestamp.valueOf(log.createdAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder));
+        written.addAndGet(batch.size());
+        long elapsed = System.nanoTime() - started;
+        flushes.incrementAndGet();
+        flushNanos.addAndGet(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        return keyHolder.getKeyList();
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * (1L << (attempt - 1)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void appendToFeed(List<PendingLog> batch, List<Map<String, Object>> keys) {
+        if (keys.size() != batch.size()) {
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            PendingLog log = batch.get(i);
+            Object key = keys.get(i).values().stream().findFirst().orElse(null);
+            if (key instanceof Number id) {
+                activityFeedService.append(new ActivityLogResponse(id.longValue(), null, log.params(), log.type(), log.createdAt(),
+                        log.userId(), log.userName(), log.userAvatarUrl(), log.projectId(), log.projectName()));
+            }
+        }
+    }
+
+    private void writeOverflow(PendingLog log) {
+        overflowWrites.incrementAndGet();
+        write(List.of(log));
+    }
+
+    private static long averageMicros(long totalNanos, long count) {
+        return count == 0 ? 0 : totalNanos / count / 1_000;
+    }
+}
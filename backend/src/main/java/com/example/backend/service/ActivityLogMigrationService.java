@@ -0,0 +1,165 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.activitylog.ActivityLogParams;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import com.example.backend.entity.job.JobCheckpoint;
+import com.example.backend.repository.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 이전 문장형 활동 로그를 파라미터형으로 변환 (ID 순서로 청크 처리, 진행 위치는 같은 트랜잭션에서 기록)
+@Service
+@RequiredArgsConstructor
+public class ActivityLogMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogMigrationService.class);
+    public static final String JOB_NAME = "activity-log-params-migration";
+    private static final String ACTOR = "^<strong>.*?</strong>님이 ";
+
+    // 이전 String.format 문장 형식 (그룹 순서대로 파라미터 키에 대응)
+    private record LegacyFormat(Pattern pattern, String... keys) {
+        LegacyFormat(String regex, String... keys) {
+            this(Pattern.compile(ACTOR + regex + "$", Pattern.DOTALL), keys);
+        }
+    }
+
+    private static final Map<ActivityLogType, LegacyFormat> LEGACY_FORMATS = new EnumMap<>(ActivityLogType.class);
+
+    static {
+        LEGACY_FORMATS.put(ActivityLogType.PROJECT_CREATED, new LegacyFormat("<strong>'.*'</strong> 프로젝트를 생성했습니다\\."));
+        LEGACY_FORMATS.put(ActivityLogType.PROJECT_UPDATED, new LegacyFormat("프로젝트의 세부 정보를 수정했습니다\\."));
+        LEGACY_FORMATS.put(ActivityLogType.MEMBER_INVITED, new LegacyFormat(
+                "<strong>(.*)</strong>님을 프로젝트에 초대했습니다\\.", ActivityLogParams.TARGET_NAME));
+        LEGACY_FORMATS.put(ActivityLogType.MEMBER_JOINED, new LegacyFormat("프로젝트 초대를 수락했습니다\\."));
+        LEGACY_FORMATS.put(ActivityLogType.MEMBER_ROLE_CHANGED, new LegacyFormat(
+                "<strong>(.*)</strong>님의 역할을 <strong>([A-Z_]+)</strong>\\(으\\)로 변경했습니다\\.",
+                ActivityLogParams.TARGET_NAME, ActivityLogParams.ROLE));
+        LEGACY_FORMATS.put(ActivityLogType.MEMBER_REMOVED, new LegacyFormat(
+                "<strong>(.*)</strong>님을 프로젝트에서 제외했습니다\\.", ActivityLogParams.TARGET_NAME));
+        LEGACY_FORMATS.put(ActivityLogType.TASK_CREATED, new LegacyFormat(
+                "<strong>'(.*)'</strong> 업무를 생성했습니다\\.", ActivityLogParams.TITLE));
+        LEGACY_FORMATS.put(ActivityLogType.TASK_UPDATED, new LegacyFormat(
+                "<strong>'(.*)'</strong> 업무의 세부사항을 수정했습니다\\.", ActivityLogParams.TITLE));
+        LEGACY_FORMATS.put(ActivityLogType.TASK_STATUS_CHANGED, new LegacyFormat(
+                "<strong>'(.*)'</strong> 업무의 상태를 <span class=\"text-blue-500\">([A-Z_]+)</span>에서 " +
+                        "<span class=\"text-green-500\">([A-Z_]+)</span>\\(으\\)로 변경했습니다\\.",
+                ActivityLogParams.TITLE, ActivityLogParams.FROM, ActivityLogParams.TO));
+        LEGACY_FORMATS.put(ActivityLogType.TASK_DELETED, new LegacyFormat(
+                "<strong>'(.*)'</strong> 업무를 삭제했습니다\\.", ActivityLogParams.TITLE));
+        LEGACY_FORMATS.put(ActivityLogType.COMMENT_CREATED, new LegacyFormat(
+                "<strong>'(.*)'</strong> 업무에 댓글을 작성했습니다\\.", ActivityLogParams.TITLE));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+
+    public record ChunkResult(int scanned, int converted) {
+    }
+
+    private record LegacyRow(long id, String type, String message) {
+    }
+
+    // params 컬럼 추가, message 컬럼 NULL 허용 (ddl-auto 는 기존 컬럼을 바꾸지 않음, DDL 은 트랜잭션 밖에서 실행)
+    // 새 로그 저장에 필요하므로 시작할 때 SchemaUpgradeRunner 가 실행하고, 변환 작업도 시작 전에 다시 확인함
+    public void prepareSchema() {
+        List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME AS name, IS_NULLABLE AS nullable FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activitylog' AND COLUMN_NAME IN ('message', 'params')");
+        boolean hasParams = false;
+        boolean messageNullable = true;
+        for (Map<String, Object> column : columns) {
+            String name = String.valueOf(column.get("name"));
+            if ("params".equalsIgnoreCase(name)) {
+                hasParams = true;
+            } else if ("NO".equalsIgnoreCase(String.valueOf(column.get("nullable")))) {
+                messageNullable = false;
+            }
+        }
+        if (!hasParams) {
+            jdbcTemplate.execute("ALTER TABLE activitylog ADD COLUMN params VARCHAR(1000) NULL");
+            logger.info("activitylog.params 컬럼 추가");
+        }
+        if (!messageNullable) {
+            jdbcTemplate.execute("ALTER TABLE activitylog MODIFY message TEXT NULL");
+            logger.info("activitylog.message 컬럼 NULL 허용으로 변경");
+        }
+    }
+
+    // 이전에 만들어진 type 컬럼은 유형 목록이 고정된 enum(...) 이라 새 유형(일괄 작업, 보관 업무 되돌림)을 저장하지 못함
+    public void widenTypeColumn() {
+        List<String> dataTypes = jdbcTemplate.queryForList(
+                "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activitylog' AND COLUMN_NAME = 'type'", String.class);
+        if (dataTypes.isEmpty() || !"enum".equalsIgnoreCase(dataTypes.get(0))) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE activitylog MODIFY type VARCHAR(50) NOT NULL");
+        logger.info("activitylog.type 컬럼을 enum 에서 VARCHAR(50) 으로 변경");
+    }
+
+    @Transactional
+    public ChunkResult migrateChunk(int chunkSize) {
+        JobCheckpoint checkpoint = checkpointRepository.findForUpdateByJobName(JOB_NAME).orElseGet(() -> {
+            JobCheckpoint created = new JobCheckpoint(JOB_NAME);
+            created.start(LocalDate.now(), 0);
+            return checkpointRepository.save(created);
+        });
+        if (checkpoint.isCompleted()) {
+            return new ChunkResult(0, 0);
+        }
+
+        List<LegacyRow> rows = jdbcTemplate.query(
+                "SELECT id, type, message FROM activitylog WHERE id > ? AND params IS NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new LegacyRow(rs.getLong("id"), rs.getString("type"), rs.getString("message")),
+                checkpoint.getLastId(), chunkSize);
+        if (rows.isEmpty()) {
+            checkpoint.setCompleted(true);
+            return new ChunkResult(0, 0);
+        }
+
+        // 형식이 맞지 않는 로그는 그대로 두고 저장된 문장을 계속 표시
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (LegacyRow row : rows) {
+            parse(row.type(), row.message()).ifPresent(params -> updates.add(new Object[]{params.encode(), row.id()}));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE activitylog SET params = ?, message = NULL WHERE id = ?", updates);
+        }
+        checkpoint.setLastId(rows.get(rows.size() - 1).id());
+        return new ChunkResult(rows.size(), updates.size());
+    }
+
+    static Optional<ActivityLogParams> parse(String type, String message) {
+        if (message == null) {
+            return Optional.empty();
+        }
+        LegacyFormat format;
+        try {
+            format = LEGACY_FORMATS.get(ActivityLogType.valueOf(type));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        Matcher matcher = format.pattern().matcher(message);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        ActivityLogParams.Builder params = ActivityLogParams.builder();
+        for (int i = 0; i < format.keys().length; i++) {
+            params.put(format.keys()[i], matcher.group(i + 1));
+        }
+        return Optional.of(params.build());
+    }
+}
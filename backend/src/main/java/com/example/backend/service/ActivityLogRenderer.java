@@ -0,0 +1,135 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.entity.activitylog.ActivityLogParams;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 활동 로그 문장 생성: messages.properties 의 activity.<유형> 템플릿에 현재 이름/제목을 채움
+// 템플릿은 언어별로 한 번만 파싱해서 보관하고, 이름/제목은 페이지 단위로 한 번에 조회
+@Component
+@RequiredArgsConstructor
+public class ActivityLogRenderer {
+
+    private static final String TEMPLATE_PREFIX = "activity.";
+
+    private final MessageSource messageSource;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    public List<ActivityLogResponse> render(List<ActivityLogResponse> logs) {
+        if (logs.isEmpty()) {
+            return logs;
+        }
+        List<ActivityLogParams> params = new ArrayList<>(logs.size());
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ActivityLogResponse log : logs) {
+            ActivityLogParams decoded = ActivityLogParams.decode(log.getParams());
+            params.add(decoded);
+            if (decoded.getLong(ActivityLogParams.TASK_ID) != null) {
+                taskIds.add(decoded.getLong(ActivityLogParams.TASK_ID));
+            }
+            if (decoded.getLong(ActivityLogParams.TARGET_ID) != null) {
+                userIds.add(decoded.getLong(ActivityLogParams.TARGET_ID));
+            }
+        }
+        Map<Long, String> taskTitles = taskIds.isEmpty() ? Collections.<Long, String>emptyMap() : taskRepository.findTitlesByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(TaskRepository.TitleView::getId, TaskRepository.TitleView::getTitle));
+        Map<Long, String> userNames = userIds.isEmpty() ? Collections.<Long, String>emptyMap() : userRepository.findNamesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserRepository.NameView::getId, UserRepository.NameView::getName));
+
+        Locale locale = LocaleContextHolder.getLocale();
+        String unknown = messageSource.getMessage(TEMPLATE_PREFIX + "unknown", null, "?", locale);
+        List<ActivityLogResponse> rendered = new ArrayList<>(logs.size());
+        for (int i = 0; i < logs.size(); i++) {
+            ActivityLogResponse log = logs.get(i);
+            // 변환 전 로그는 저장된 문장을 그대로 사용
+            if (log.getParams() == null && log.getMessage() != null) {
+                rendered.add(log);
+                continue;
+            }
+            ActivityLogParams p = params.get(i);
+            Map<String, String> values = new HashMap<>();
+            values.put("actor", log.getUserName());
+            values.put("project", log.getProjectName());
+            values.put("task", firstNonNull(taskTitles.get(p.getLong(ActivityLogParams.TASK_ID)), p.get(ActivityLogParams.TITLE), unknown));
+            values.put("target", firstNonNull(userNames.get(p.getLong(ActivityLogParams.TARGET_ID)), p.get(ActivityLogParams.TARGET_NAME), unknown));
+            values.put("role", p.get(ActivityLogParams.ROLE));
+            values.put("from", p.get(ActivityLogParams.FROM));
+            values.put("to", p.get(ActivityLogParams.TO));
+            values.put("count", p.get(ActivityLogParams.COUNT));
+            values.put("field", fieldName(p.get(ActivityLogParams.FIELD), locale));
+            rendered.add(log.withMessage(templateFor(log.getType(), locale).fill(values)));
+        }
+        return rendered;
+    }
+
+    private Template templateFor(ActivityLogType type, Locale locale) {
+        return templates.computeIfAbsent(locale.toLanguageTag() + ":" + type.name(), key -> Template.parse(
+                messageSource.getMessage(TEMPLATE_PREFIX + type.name(), null, type.name(), locale)));
+    }
+
+    private String fieldName(String field, Locale locale) {
+        return field != null ? messageSource.getMessage(TEMPLATE_PREFIX + "field." + field, null, field, locale) : null;
+    }
+
+    private static String firstNonNull(String first, String second, String fallback) {
+        if (first != null) {
+            return first;
+        }
+        return second != null ? second : fallback;
+    }
+
+    // "{이름}" 자리표시자를 미리 잘라 둔 템플릿 (짝수 번째는 고정 문구, 홀수 번째는 자리표시자 이름)
+    private record Template(List<String> parts) {
+
+        static Template parse(String pattern) {
+            List<String> parts = new ArrayList<>();
+            int position = 0;
+            while (true) {
+                int open = pattern.indexOf('{', position);
+                int close = open < 0 ? -1 : pattern.indexOf('}', open);
+                if (close < 0) {
+                    parts.add(pattern.substring(position));
+                    return new Template(List.copyOf(parts));
+                }
+                parts.add(pattern.substring(position, open));
+                parts.add(pattern.substring(open + 1, close));
+                position = close + 1;
+            }
+        }
+
+        // 사용자 입력(이름, 제목)은 HTML 이스케이프해서 넣음
+        String fill(Map<String, String> values) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < parts.size(); i++) {
+                if (i % 2 == 0) {
+                    sb.append(parts.get(i));
+                } else {
+                    String value = values.get(parts.get(i));
+                    sb.append(value != null ? HtmlUtils.htmlEscape(value, "UTF-8") : "");
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogCursor;
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.entity.activitylog.ActivityLogType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 콜드 활동 로그 세그먼트 파일 (한 번 쓰면 수정하지 않음)
+// [압축 블록...][블록 인덱스][트레일러] 구조, 블록 안의 로그는 최신순 (createdAt, id 내림차순)
+// 인덱스는 블록마다 첫 로그의 키만 가진 희소 인덱스라 작고, 읽을 때는 파일을 메모리 매핑해서 필요한 블록만 풂
+public final class ActivityLogSegment {
+
+    public static final String EXTENSION = ".als";
+    private static final int MAGIC = 0x414C5347;
+    private static final int VERSION = 1;
+    // magic, version, blockCount, entryCount, indexOffset, 최신 키, 가장 오래된 키
+    private static final int TRAILER_SIZE = 4 + 4 + 4 + 4 + 8 + 16 + 16;
+
+    public record Entry(long id, LocalDateTime createdAt, ActivityLogType type, Long userId, String params, String message) {
+    }
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int entryCount;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final int[] blockRawLengths;
+    private final long[] blockFirstMicros;
+    private final long[] blockFirstIds;
+    private final long newestMicros;
+    private final long newestId;
+    private final long oldestMicros;
+    private final long oldestId;
+
+    private ActivityLogSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        int size = buffer.capacity();
+        if (size < TRAILER_SIZE || buffer.getInt(size - TRAILER_SIZE) != MAGIC) {
+            throw new IllegalStateException("활동 로그 세그먼트 형식이 아닙니다: " + path);
+        }
+        int trailer = size - TRAILER_SIZE;
+        if (buffer.getInt(trailer + 4) != VERSION) {
+            throw new IllegalStateException("지원하지 않는 세그먼트 버전입니다: " + path);
+        }
+        int blockCount = buffer.getInt(trailer + 8);
+        this.entryCount = buffer.getInt(trailer + 12);
+        long indexOffset = buffer.getLong(trailer + 16);
+        this.newestMicros = buffer.getLong(trailer + 24);
+        this.newestId = buffer.getLong(trailer + 32);
+        this.oldestMicros = buffer.getLong(trailer + 40);
+        this.oldestId = buffer.getLong(trailer + 48);
+
+        this.blockOffsets = new long[blockCount];
+        this.blockLengths = new int[blockCount];
+        this.blockRawLengths = new int[blockCount];
+        this.blockFirstMicros = new long[blockCount];
+        this.blockFirstIds = new long[blockCount];
+        int position = (int) indexOffset;
+        for (int i = 0; i < blockCount; i++) {
+            blockOffsets[i] = buffer.getLong(position);
+            blockLengths[i] = buffer.getInt(position + 8);
+            blockRawLengths[i] = buffer.getInt(position + 12);
+            blockFirstMicros[i] = buffer.getLong(position + 16);
+            blockFirstIds[i] = buffer.getLong(position + 24);
+            position += 32;
+        }
+    }
+
+    public static ActivityLogSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return new ActivityLogSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public LocalDateTime getNewestCreatedAt() {
+        return fromMicros(newestMicros);
+    }
+
+    // 가장 최신 로그 기준 내림차순 정렬용
+    public static int newestFirst(ActivityLogSegment a, ActivityLogSegment b) {
+        return compare(b.newestMicros, b.newestId, a.newestMicros, a.newestId);
+    }
+
+    // 이 세그먼트의 가장 최신 로그가 주어진 로그보다 오래됐으면 true
+    public boolean isOlderThan(LocalDateTime createdAt, long id) {
+        return compare(newestMicros, newestId, toMicros(createdAt), id) < 0;
+    }
+
+    // 이 세그먼트에서 커서 이후(더 오래된) 조건에 맞는 로그를 최신순으로 최대 limit 건
+    public List<Entry> read(ActivityLogFilter filter, int limit) throws IOException {
+        List<Entry> result = new ArrayList<>(Math.min(limit, entryCount));
+        ActivityLogCursor cursor = filter.getCursor();
+        long cursorMicros = cursor != null ? toMicros(cursor.getCreatedAt()) : Long.MAX_VALUE;
+        long cursorId = cursor != null ? cursor.getId() : Long.MAX_VALUE;
+        long toMicros = filter.getTo() != null ? toMicros(filter.getTo()) : Long.MAX_VALUE;
+        long fromMicros = filter.getFrom() != null ? toMicros(filter.getFrom()) : Long.MIN_VALUE;
+
+        // 전체가 커서/기간 밖이면 블록을 풀지 않음
+        if (entryCount == 0
+                || compare(oldestMicros, oldestId, cursorMicros, cursorId) >= 0
+                || oldestMicros >= toMicros || newestMicros < fromMicros) {
+            return result;
+        }
+        // 커서와 기간 끝 중 더 이른 쪽이 읽기 시작 기준
+        long boundMicros = cursorMicros <= toMicros ? cursorMicros : toMicros;
+        long boundId = cursorMicros <= toMicros ? cursorId : Long.MIN_VALUE;
+
+        Inflater inflater = new Inflater();
+        try {
+            for (int block = startBlock(boundMicros, boundId); block < blockOffsets.length && result.size() < limit; block++) {
+                if (blockFirstMicros[block] < fromMicros) {
+                    break;
+                }
+                for (Entry entry : decodeBlock(block, inflater)) {
+                    long micros = toMicros(entry.createdAt());
+                    if (micros < fromMicros) {
+                        return result;
+                    }
+                    if (compare(micros, entry.id(), cursorMicros, cursorId) >= 0 || micros >= toMicros || !matches(entry, filter)) {
+                        continue;
+                    }
+                    result.add(entry);
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+        return result;
+    }
+
+    // 첫 키가 기준 키보다 최신인(또는 같은) 블록들 중 마지막 블록부터 읽으면 됨 (블록 첫 키는 내림차순)
+    private int startBlock(long micros, long id) {
+        int low = 0;
+        int high = blockOffsets.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(blockFirstMicros[mid], blockFirstIds[mid], micros, id) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(0, low - 1);
+    }
+
+    private List<Entry> decodeBlock(int block, Inflater inflater) throws IOException {
+        ByteBuffer compressed = buffer.duplicate();
+        compressed.position((int) blockOffsets[block]).limit((int) blockOffsets[block] + blockLengths[block]);
+        byte[] raw = new byte[blockRawLengths[block]];
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            int inflated = 0;
+            while (inflated < raw.length && !inflater.finished()) {
+                inflated += inflater.inflate(raw, inflated, raw.length - inflated);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("세그먼트 블록이 손상되었습니다: " + path + " #" + block, e);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        int count = in.readInt();
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = in.readLong();
+            LocalDateTime createdAt = fromMicros(in.readLong());
+            ActivityLogType type = ActivityLogType.valueOf(in.readUTF());
+            long userId = in.readLong();
+            String params = in.readBoolean() ? in.readUTF() : null;
+            String message = null;
+            if (in.readBoolean()) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                message = new String(bytes, StandardCharsets.UTF_8);
+            }
+            entries.add(new Entry(id, createdAt, type, userId == 0 ? null : userId, params, message));
+        }
+        return entries;
+    }
+
+    private static boolean matches(Entry entry, ActivityLogFilter filter) {
+        if (filter.getTypes() != null && !filter.getTypes().isEmpty() && !filter.getTypes().contains(entry.type())) {
+            return false;
+        }
+        return filter.getActorId() == null || filter.getActorId().equals(entry.userId());
+    }
+
+    static int compare(long micros, long id, long otherMicros, long otherId) {
+        int result = Long.compare(micros, otherMicros);
+        return result != 0 ? result : Long.compare(id, otherId);
+    }
+
+    static long toMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    // 최신순으로 append 해야 함. close() 전까지는 임시 파일에만 기록
+    public static final class Writer implements Closeable {
+        private final Path path;
+        private final FileChannel channel;
+        private final OutputStream out;
+        private final int blockSize;
+        private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+        private final DataOutputStream indexOut = new DataOutputStream(index);
+        private DataOutputStream blockOut = new DataOutputStream(blockBytes);
+        private long position;
+        private int blockEntries;
+        private int blockCount;
+        private int entryCount;
+        private long blockFirstMicros;
+        private long blockFirstId;
+        private long newestMicros;
+        private long newestId;
+        private long lastMicros = Long.MAX_VALUE;
+        private long lastId = Long.MAX_VALUE;
+
+        public Writer(Path path, int blockSize) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            this.blockSize = blockSize;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        public void append(Entry entry) throws IOException {
+            long micros = toMicros(entry.createdAt());
+            if (compare(micros, entry.id(), lastMicros, lastId) >= 0) {
+                throw new IllegalArgumentException("세그먼트에는 최신순으로 기록해야 합니다: ID " + entry.id());
+            }
+            if (entryCount == 0) {
+                newestMicros = micros;
+                newestId = entry.id();
+            }
+            if (blockEntries == 0) {
+                blockFirstMicros = micros;
+                blockFirstId = entry.id();
+            }
+            blockOut.writeLong(entry.id());
+            blockOut.writeLong(micros);
+            blockOut.writeUTF(entry.type().name());
+            blockOut.writeLong(entry.userId() != null ? entry.userId() : 0L);
+            blockOut.writeBoolean(entry.params() != null);
+            if (entry.params() != null) {
+                blockOut.writeUTF(entry.params());
+            }
+            blockOut.writeBoolean(entry.message() != null);
+            if (entry.message() != null) {
+                byte[] bytes = entry.message().getBytes(StandardCharsets.UTF_8);
+                blockOut.writeInt(bytes.length);
+                blockOut.write(bytes);
+            }
+            lastMicros = micros;
+            lastId = entry.id();
+            blockEntries++;
+            entryCount++;
+            if (blockEntries == blockSize) {
+                flushBlock();
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockEntries == 0) {
+                return;
+            }
+            blockOut.flush();
+            byte[] body = blockBytes.toByteArray();
+            ByteArrayOutputStream rawBlock = new ByteArrayOutputStream(body.length + 4);
+            new DataOutputStream(rawBlock).writeInt(blockEntries);
+            rawBlock.write(body);
+            byte[] raw = rawBlock.toByteArray();
+
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] chunk = new byte[8192];
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+                compressedLength += length;
+            }
+
+            indexOut.writeLong(position);
+            indexOut.writeInt(compressedLength);
+            indexOut.writeInt(raw.length);
+            indexOut.writeLong(blockFirstMicros);
+            indexOut.writeLong(blockFirstId);
+            position += compressedLength;
+            blockCount++;
+            blockEntries = 0;
+            blockBytes.reset();
+            blockOut = new DataOutputStream(blockBytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBlock();
+                long indexOffset = position;
+                indexOut.flush();
+                index.writeTo(out);
+                DataOutputStream trailer = new DataOutputStream(out);
+                trailer.writeInt(MAGIC);
+                trailer.writeInt(VERSION);
+                trailer.writeInt(blockCount);
+                trailer.writeInt(entryCount);
+                trailer.writeLong(indexOffset);
+                trailer.writeLong(newestMicros);
+                trailer.writeLong(newestId);
+                trailer.writeLong(lastMicros);
+                trailer.writeLong(lastId);
+                trailer.flush();
+                // 커밋(이름 변경) 후 DB 행을 지우므로 디스크에 내려간 뒤에 반환
+                channel.force(true);
+            } finally {
+                deflater.end();
+                out.close();
+            }
+        }
+    }
+}
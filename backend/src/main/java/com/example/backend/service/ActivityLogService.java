@@ -1,20 +1,32 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.ActivityLogCursor;
+import com.example.backend.dto.ActivityLogFilter;
 import com.example.backend.dto.ActivityLogResponse;
 import com.example.backend.entity.activitylog.ActivityLog;
+import com.example.backend.entity.activitylog.ActivityLogParams;
 import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.project.Project;
 import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.UserProfile;
 import com.example.backend.repository.ActivityLogRepository;
 import com.example.backend.repository.ProjectRepository;
+import com.example.backend.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,37 +34,121 @@ import java.util.stream.Collectors;
 @Transactional
 public class ActivityLogService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final ActivityLogRepository activityLogRepository;
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
     private final ProjectMemberService projectMemberService;
+    private final ActivityLogBuffer activityLogBuffer;
+    private final ActivityFeedService activityFeedService;
+    private final ActivityLogRenderer activityLogRenderer;
+    private final ActivityLogArchive activityLogArchive;
+
+    // 활동 로그 생성: 문장 대신 유형과 파라미터만 저장 (지연 쓰기를 켜면 버퍼에 넣고 바로 반환)
+    public void createLog(Project project, User user, ActivityLogType type, ActivityLogParams params) {
+        long started = System.nanoTime();
+        String encodedParams = params.encode();
+        if (activityLogBuffer.isEnabled()) {
+            ActivityLogBuffer.PendingLog log = new ActivityLogBuffer.PendingLog(
+                    encodedParams, user.getId(), project.getId(), type, LocalDateTime.now(),
+                    user.getName(), avatarUrlOf(user), project.getName());
+            // 호출한 트랜잭션이 커밋된 뒤에만 버퍼에 넣어, 롤백된 작업의 로그가 남지 않게 함
+            if (activityLogBuffer.isAfterCommit()) {
+                runAfterCommit(() -> activityLogBuffer.enqueue(log));
+            } else {
+                activityLogBuffer.enqueue(log);
+            }
+            activityLogBuffer.recordCall(true, System.nanoTime() - started);
+            return;
+        }
+        ActivityLog log = activityLogRepository.save(new ActivityLog(user, project, type, params));
+        ActivityLogResponse saved = new ActivityLogResponse(log.getId(), null, encodedParams, type, log.getCreatedAt(),
+                user.getId(), user.getName(), avatarUrlOf(user), project.getId(), project.getName());
+        runAfterCommit(() -> activityFeedService.append(saved));
+        activityLogBuffer.recordCall(false, System.nanoTime() - started);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 
-    // 활동 로그 생성
-    public void createLog(Project project, User user, String message, ActivityLogType type) {
-        ActivityLog log = new ActivityLog(message, user, project, type);
-        activityLogRepository.save(log);
+    // 인증 정보의 User 는 세션 밖 객체일 수 있으므로 이미 로딩된 프로필만 사용
+    private static String avatarUrlOf(User user) {
+        return Optional.ofNullable(user.getUserProfile())
+                .filter(Hibernate::isInitialized)
+                .map(UserProfile::getAvatarUrl)
+                .orElse(null);
     }
 
-    // 특정 프로젝트의 활동 로그 목록 조회
+    // 특정 프로젝트의 활동 로그 목록 조회 (커서 기반, 한 번에 최대 MAX_PAGE_SIZE건)
+    // DB 에 남은 최근 로그로 페이지가 다 차지 않으면 이어서 콜드 세그먼트에서 읽음
     @Transactional(readOnly = true)
-    public List<ActivityLogResponse> getActivityLogsForProject(Long projectId, User currentUser) {
+    public List<ActivityLogResponse> getActivityLogsForProject(Long projectId, ActivityLogFilter filter, User currentUser) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
 
         projectMemberService.ensureUserIsMemberOfProject(project, currentUser);
 
-        List<ActivityLog> activities = activityLogRepository.findByProjectOrderByCreatedAtDesc(project);
+        if (filter.getLimit() < 1 || filter.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        List<ActivityLogResponse> logs = activityLogRepository.findPage(projectId, filter);
+        if (logs.size() < filter.getLimit() && activityLogArchive.hasSegments(projectId)) {
+            logs = appendArchived(project, filter, logs);
+        }
+        return activityLogRenderer.render(logs);
+    }
+
+    private List<ActivityLogResponse> appendArchived(Project project, ActivityLogFilter filter, List<ActivityLogResponse> hot) {
+        List<ActivityLogSegment.Entry> cold = activityLogArchive.findPage(project.getId(), coldFilter(filter, hot));
+        if (cold.isEmpty()) {
+            return hot;
+        }
+        Map<Long, User> users = userRepository.findWithProfileByIdIn(
+                        cold.stream().map(ActivityLogSegment.Entry::userId).filter(id -> id != null).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return combine(project, hot, cold, users);
+    }
+
+    // 콜드 로그는 DB 에서 받은 마지막 로그 다음부터 남은 건수만큼
+    static ActivityLogFilter coldFilter(ActivityLogFilter filter, List<ActivityLogResponse> hot) {
+        return filter.toBuilder()
+                .cursor(hot.isEmpty() ? filter.getCursor() : ActivityLogCursor.of(hot.get(hot.size() - 1)))
+                .limit(filter.getLimit() - hot.size())
+                .build();
+    }
 
-        return activities.stream()
-                .map(ActivityLogResponse::new)
-                .collect(Collectors.toList());
+    // 콜드 로그는 모두 DB 로그보다 오래됐으므로 뒤에 이어 붙임
+    static List<ActivityLogResponse> combine(Project project, List<ActivityLogResponse> hot,
+                                             List<ActivityLogSegment.Entry> cold, Map<Long, User> users) {
+        Set<Long> hotIds = hot.stream().map(ActivityLogResponse::getId).collect(Collectors.toSet());
+        List<ActivityLogResponse> combined = new ArrayList<>(hot);
+        for (ActivityLogSegment.Entry entry : cold) {
+            // 옮기는 도중이면 같은 로그가 양쪽에 있을 수 있음
+            if (hotIds.contains(entry.id())) {
+                continue;
+            }
+            User user = users.get(entry.userId());
+            combined.add(new ActivityLogResponse(entry.id(), entry.message(), entry.params(), entry.type(), entry.createdAt(),
+                    entry.userId(), user != null ? user.getName() : null, user != null ? avatarUrlOf(user) : null,
+                    project.getId(), project.getName()));
+        }
+        return combined;
     }
 
-    //최근 활동 로그
+    //최근 활동 로그 (프로젝트별 최근 버퍼를 병합해 limit 건만 읽음)
     public List<ActivityLogResponse> getRecentActivityLogsForUser(User currentUser, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        List<ActivityLog> activities = activityLogRepository.findRecentActivitiesByUserId(currentUser.getId(), pageable);
-        return activities.stream()
-                .map(ActivityLogResponse::new)
-                .collect(Collectors.toList());
+        return activityLogRenderer.render(activityFeedService.getRecentForUser(currentUser.getId(), limit));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.activitylog.ActivityLogType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 기준 시각보다 오래된 활동 로그를 프로젝트별 세그먼트 파일로 옮기고 DB 에서 삭제
+// 세그먼트가 디스크에 완전히 기록(fsync, 이름 변경)된 뒤에만 행을 지우므로 중간에 멈춰도 로그는 사라지지 않음
+@Service
+public class ActivityLogTieringService {
+
+    private static final String SELECT_COLUMNS = "SELECT id, created_at, type, user_id, params, message FROM activitylog ";
+    private static final RowMapper<ActivityLogSegment.Entry> ENTRY_MAPPER = (rs, rowNum) -> new ActivityLogSegment.Entry(
+            rs.getLong("id"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            ActivityLogType.valueOf(rs.getString("type")),
+            rs.getLong("user_id"),
+            rs.getString("params"),
+            rs.getString("message"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogArchive archive;
+    private final int chunkSize;
+    private final int segmentMaxRows;
+
+    public ActivityLogTieringService(JdbcTemplate jdbcTemplate,
+                                     ActivityLogArchive archive,
+                                     @Value("${activity-log.archive.chunk-size:2000}") int chunkSize,
+                                     @Value("${activity-log.archive.segment-max-rows:100000}") int segmentMaxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.chunkSize = chunkSize;
+        this.segmentMaxRows = segmentMaxRows;
+    }
+
+    public record SegmentResult(int rows, Path segment) {
+    }
+
+    public List<Long> findProjectsWithLogsBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT project_id FROM activitylog WHERE created_at < ?", Long.class, Timestamp.valueOf(cutoff));
+    }
+
+    // 한 프로젝트에서 기준 시각 이전 로그를 최신순으로 최대 segmentMaxRows 건 세그먼트 하나로 옮김 (없으면 0건)
+    public SegmentResult moveSegment(Long projectId, LocalDateTime cutoff) {
+        List<Long> ids = new ArrayList<>();
+        ActivityLogSegment.Writer writer;
+        try {
+            writer = archive.newWriter(projectId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("활동 로그 세그먼트를 만들 수 없습니다: 프로젝트 ID " + projectId, e);
+        }
+        try (writer) {
+            List<ActivityLogSegment.Entry> chunk = jdbcTemplate.query(
+                    SELECT_COLUMNS + "WHERE project_id = ? AND created_at < ? ORDER BY created_at DESC, id DESC LIMIT ?",
+                    ENTRY_MAPPER, projectId, Timestamp.valueOf(cutoff), Math.min(chunkSize, segmentMaxRows));
+            while (!chunk.isEmpty()) {
+                for (ActivityLogSegment.Entry entry : chunk) {
+                    writer.append(entry);
+                    ids.add(entry.id());
+                }
+                int remaining = segmentMaxRows - ids.size();
+                if (chunk.size() < chunkSize || remaining <= 0) {
+                    break;
+                }
+                ActivityLogSegment.Entry last = chunk.get(chunk.size() - 1);
+                Timestamp lastCreatedAt = Timestamp.valueOf(last.createdAt());
+                chunk = jdbcTemplate.query(
+                        SELECT_COLUMNS + "WHERE project_id = ? AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+                                "ORDER BY created_at DESC, id DESC LIMIT ?",
+                        ENTRY_MAPPER, projectId, lastCreatedAt, lastCreatedAt, last.id(), Math.min(chunkSize, remaining));
+            }
+        } catch (IOException e) {
+            archive.discard(writer);
+            throw new UncheckedIOException("활동 로그 세그먼트 기록 실패: 프로젝트 ID " + projectId, e);
+        } catch (RuntimeException e) {
+            archive.discard(writer);
+            throw e;
+        }
+        if (ids.isEmpty()) {
+            archive.discard(writer);
+            return new SegmentResult(0, null);
+        }
+        Path segment;
+        try {
+            segment = archive.commit(projectId, writer);
+        } catch (IOException e) {
+            archive.discard(writer);
+            throw new UncheckedIOException("활동 로그 세그먼트 확정 실패", e);
+        }
+        deleteMoved(ids);
+        return new SegmentResult(ids.size(), segment);
+    }
+
+    // 짧은 DELETE 여러 번으로 나눠 잠금 시간을 줄임
+    private void deleteMoved(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.update("DELETE FROM activitylog WHERE id IN (" + placeholders + ")", chunk.toArray());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.service;
 
 import com.example.backend.dto.CommentRequest;
+import com.example.backend.entity.activitylog.ActivityLogParams;
 import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.comment.Comment;
 import com.example.backend.entity.notification.NotificationType;
@@ -16,6 +17,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,16 +53,17 @@ public class CommentService {
         projectMemberService.ensureUserIsMemberOfProject(task.getProject(), currentUser);
 
         Comment comment = new Comment(request.getContent(), currentUser, task);
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무에 댓글을 작성했습니다.", currentUser.getName(), task.getTitle());
-        activityLogService.createLog(task.getProject(), currentUser, message, ActivityLogType.COMMENT_CREATED);
+        activityLogService.createLog(task.getProject(), currentUser, ActivityLogType.COMMENT_CREATED, ActivityLogParams.task(task));
 
         if (task.getAssignee() != null && !task.getAssignee().getId().equals(currentUser.getId())) {
-            message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무에 새로운 댓글을 남겼습니다.", currentUser.getName(), task.getTitle());
+            String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무에 새로운 댓글을 남겼습니다.", currentUser.getName(), task.getTitle());
             String link = String.format(frontendBaseUrl + "/dashboard/project/%d?taskId=%d", task.getProject().getId(), task.getId());
             notificationService.createAndSendNotification(task.getAssignee(), NotificationType.TASK_COMMENT, message, link, currentUser);
         }
+        Comment saved = commentRepository.save(comment);
+        taskRepository.incrementCommentCount(task.getId(), LocalDateTime.now());
         sseService.broadcastToProjectMembers(task.getProject().getId(), "project-updated", Map.of("projectId", task.getProject().getId()));
-        return commentRepository.save(comment);
+        return saved;
     }
 
     //댓글 수정
@@ -90,5 +93,6 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        taskRepository.decrementCommentCount(comment.getTask().getId(), LocalDateTime.now());
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.ProjectRepository;
+import com.example.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 비정규화 집계 값을 원본 데이터로 다시 계산 (ID 구간 단위로 짧은 트랜잭션)
+@Service
+@RequiredArgsConstructor
+public class CounterRepairService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
+
+    @Transactional(readOnly = true)
+    public long maxTaskId() {
+        Long maxId = taskRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    // 바뀐 업무 수 반환
+    @Transactional
+    public int repairTaskCounters(long fromId, long toId) {
+        return taskRepository.rebuildActivityCounters(fromId, toId);
+    }
+
+    @Transactional(readOnly = true)
+    public long maxProjectId() {
+        Long maxId = projectRepository.findMaxId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    // 상태별 업무 수가 어긋나 고친 프로젝트 수 반환
+    @Transactional
+    public int repairProjectStatusCounters(long fromId, long toId) {
+        return projectRepository.rebuildStatusCounters(fromId, toId);
+    }
+
+    // 프로젝트 통계 키 중 원본과 달라 고친 수 반환
+    @Transactional
+    public int repairProjectStats(long fromId, long toId) {
+        return projectStatsService.reconcile(fromId, toId);
+    }
+
+    @Transactional(readOnly = true)
+    public long maxWorkloadUserId() {
+        return userWorkloadService.maxUserId();
+    }
+
+    // 사용자 업무량이 원본과 달라 고친 사용자 수 반환
+    @Transactional
+    public int repairUserWorkloads(long fromId, long toId) {
+        return userWorkloadService.reconcile(fromId, toId);
+    }
+}
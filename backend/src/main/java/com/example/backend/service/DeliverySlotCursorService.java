@@ -0,0 +1,61 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.job.JobCheckpoint;
+import com.example.backend.repository.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// 발송 슬롯 진행 위치: 마지막으로 끝낸 (날짜, 슬롯)을 기록해, 늦거나 건너뛴 실행의 슬롯을 다음 실행에서 이어서 처리
+@Service
+@RequiredArgsConstructor
+public class DeliverySlotCursorService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliverySlotCursorService.class);
+    public static final String JOB_NAME = "delivery-slot-dispatch";
+
+    private final JobCheckpointRepository checkpointRepository;
+    private final DeliverySlotPlanner slotPlanner;
+
+    // 이번 실행에서 처리할 슬롯 (오래된 순): 마지막으로 끝낸 슬롯 다음부터 현재 슬롯까지
+    // 처음 실행이면 현재 슬롯만, 날짜가 바뀌었으면 오늘 첫 슬롯부터 (어제 남은 슬롯은 오늘 발송으로 대신함)
+    @Transactional(readOnly = true)
+    public List<Integer> pendingSlots(LocalDate today, int currentSlot) {
+        JobCheckpoint checkpoint = checkpointRepository.findByJobName(JOB_NAME).orElse(null);
+        if (checkpoint == null) {
+            return List.of(currentSlot);
+        }
+        LocalDate lastDate = checkpoint.getRunDate();
+        if (lastDate.isAfter(today)) {
+            return List.of();
+        }
+        if (lastDate.isBefore(today)) {
+            if (!lastDate.plusDays(1).equals(today) || checkpoint.getRunSlot() < slotPlanner.slotsPerDay() - 1) {
+                logger.warn("지난 날짜의 발송 슬롯을 처리하지 못했습니다 | 마지막 처리: {} 슬롯 {}", lastDate, checkpoint.getRunSlot());
+            }
+            return IntStream.rangeClosed(0, currentSlot).boxed().toList();
+        }
+        return IntStream.rangeClosed(checkpoint.getRunSlot() + 1, currentSlot).boxed().toList();
+    }
+
+    // 해당 슬롯까지 처리했다고 기록 (다른 서버가 이미 더 뒤까지 기록했으면 그대로 둠)
+    @Transactional
+    public void advance(LocalDate today, int slot) {
+        JobCheckpoint checkpoint = checkpointRepository.findForUpdateByJobName(JOB_NAME).orElse(null);
+        if (checkpoint == null) {
+            checkpoint = new JobCheckpoint(JOB_NAME);
+        } else if (today.isBefore(checkpoint.getRunDate())
+                || (today.equals(checkpoint.getRunDate()) && slot <= checkpoint.getRunSlot())) {
+            return;
+        }
+        checkpoint.start(today, slot);
+        checkpoint.setCompleted(true);
+        checkpointRepository.save(checkpoint);
+    }
+}
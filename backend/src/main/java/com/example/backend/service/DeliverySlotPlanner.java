@@ -0,0 +1,61 @@
+package com.example.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.List;
+
+// 사용자별 알림/요약 메일 발송 시각을 하루 단위 슬롯으로 배정
+// 수신 희망 시각이 있으면 그 시간 안에서, 없으면 분산 구간 안에서 사용자 ID 해시로 고정 배정
+@Component
+public class DeliverySlotPlanner {
+
+    private final int slotMinutes;
+    private final int windowStartSlot;
+    private final int windowSlots;
+    private final int slotsPerHour;
+
+    public DeliverySlotPlanner(@Value("${notification.delivery.slot-minutes:15}") int slotMinutes,
+                               @Value("${notification.delivery.window-start-hour:8}") int windowStartHour,
+                               @Value("${notification.delivery.window-end-hour:12}") int windowEndHour) {
+        if (slotMinutes <= 0 || 60 % slotMinutes != 0) {
+            throw new IllegalArgumentException("발송 슬롯 간격은 60의 약수여야 합니다: " + slotMinutes);
+        }
+        if (windowStartHour < 0 || windowEndHour > 24 || windowStartHour >= windowEndHour) {
+            throw new IllegalArgumentException("발송 분산 구간이 올바르지 않습니다: " + windowStartHour + " ~ " + windowEndHour);
+        }
+        this.slotMinutes = slotMinutes;
+        this.slotsPerHour = 60 / slotMinutes;
+        this.windowStartSlot = windowStartHour * slotsPerHour;
+        this.windowSlots = (windowEndHour - windowStartHour) * slotsPerHour;
+    }
+
+    public int slotsPerDay() {
+        return 24 * slotsPerHour;
+    }
+
+    public int slotOf(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / slotMinutes;
+    }
+
+    public int slotOf(Long userId, Integer preferredHour) {
+        int hash = stableHash(userId);
+        if (preferredHour != null) {
+            return preferredHour * slotsPerHour + Math.floorMod(hash, slotsPerHour);
+        }
+        return windowStartSlot + Math.floorMod(hash, windowSlots);
+    }
+
+    public List<Long> filterSlot(List<Long> userIds, int slot, NotificationSettingsCache settingsCache) {
+        return userIds.stream()
+                .filter(userId -> slotOf(userId, settingsCache.getDeliveryHour(userId)) == slot)
+                .toList();
+    }
+
+    // 재시작이나 인스턴스가 바뀌어도 같은 사용자는 항상 같은 슬롯을 받도록 ID만으로 계산
+    private static int stableHash(Long userId) {
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
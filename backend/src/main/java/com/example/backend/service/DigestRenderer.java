@@ -0,0 +1,109 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DigestItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+// 요약 메일 본문 생성 (DB 접근 없이 미리 조회한 항목만 사용)
+public final class DigestRenderer {
+
+    private DigestRenderer() {
+    }
+
+    // 여러 사용자의 본문을 주어진 스레드 풀에서 병렬로 생성 (변경 사항이 없는 사용자는 제외)
+    public static Map<Long, String> renderAll(Collection<Long> userIds,
+                                              List<DigestItem> newTasks,
+                                              List<DigestItem> completedTasks,
+                                              List<DigestItem> commentedTasks,
+                                              String digestType,
+                                              Executor executor) {
+        Map<Long, List<DigestItem>> newByUser = groupByUser(newTasks);
+        Map<Long, List<DigestItem>> completedByUser = groupByUser(completedTasks);
+        Map<Long, List<DigestItem>> commentedByUser = groupByUser(commentedTasks);
+
+        Map<Long, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            List<DigestItem> userNew = newByUser.getOrDefault(userId, List.of());
+            List<DigestItem> userCompleted = completedByUser.getOrDefault(userId, List.of());
+            List<DigestItem> userCommented = commentedByUser.getOrDefault(userId, List.of());
+            if (userNew.isEmpty() && userCompleted.isEmpty() && userCommented.isEmpty()) {
+                continue;
+            }
+            futures.put(userId, CompletableFuture.supplyAsync(
+                    () -> render(digestType, userNew, userCompleted, userCommented), executor));
+        }
+
+        Map<Long, String> bodies = new LinkedHashMap<>();
+        futures.forEach((userId, future) -> bodies.put(userId, future.join()));
+        return bodies;
+    }
+
+    // 사용자 한 명의 요약 메일 본문 (변경 사항이 없으면 null)
+    public static String render(String digestType,
+                                List<DigestItem> newTasks,
+                                List<DigestItem> completedTasks,
+                                List<DigestItem> commentedTasks) {
+        Map<Long, ProjectSection> sections = new LinkedHashMap<>();
+        newTasks.forEach(item -> section(sections, item).newTasks.add(item));
+        completedTasks.forEach(item -> section(sections, item).completedTasks.add(item));
+        commentedTasks.forEach(item -> section(sections, item).commentedTasks.add(item));
+
+        if (sections.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder emailBody = new StringBuilder(String.format("<h1>지난 %s 동안 활동 요약</h1>", "일일".equals(digestType) ? "하루" : "일주일"));
+        for (ProjectSection section : sections.values()) {
+            emailBody.append(String.format("<h2>- %s -</h2>", section.projectName));
+            emailBody.append("<ul>");
+
+            buildSection(emailBody, "새로 할당된 업무", section.newTasks);
+            buildSection(emailBody, "완료된 업무", section.completedTasks);
+            buildSection(emailBody, "새로운 댓글이 달린 업무", section.commentedTasks);
+
+            emailBody.append("</ul>");
+        }
+        return emailBody.toString();
+    }
+
+    private static Map<Long, List<DigestItem>> groupByUser(List<DigestItem> items) {
+        Map<Long, List<DigestItem>> grouped = new HashMap<>();
+        for (DigestItem item : items) {
+            grouped.computeIfAbsent(item.getUserId(), id -> new ArrayList<>()).add(item);
+        }
+        return grouped;
+    }
+
+    private static ProjectSection section(Map<Long, ProjectSection> sections, DigestItem item) {
+        return sections.computeIfAbsent(item.getProjectId(), id -> new ProjectSection(item.getProjectName()));
+    }
+
+    private static void buildSection(StringBuilder builder, String title, List<DigestItem> items) {
+        if (!items.isEmpty()) {
+            builder.append(String.format("<li><b>%s (%d건):</b> %s</li>",
+                    title,
+                    items.size(),
+                    items.stream().map(item -> "'" + item.getTaskTitle() + "'").collect(Collectors.joining(", "))
+            ));
+        }
+    }
+
+    private static class ProjectSection {
+        private final String projectName;
+        private final List<DigestItem> newTasks = new ArrayList<>();
+        private final List<DigestItem> completedTasks = new ArrayList<>();
+        private final List<DigestItem> commentedTasks = new ArrayList<>();
+
+        ProjectSection(String projectName) {
+            this.projectName = projectName;
+        }
+    }
+}
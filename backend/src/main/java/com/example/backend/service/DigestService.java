@@ -0,0 +1,113 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DigestItem;
+import com.example.backend.dto.EmailMessage;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Service
+public class DigestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DigestService.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+    private final ExecutorService renderPool;
+    private final int shardSize;
+    private final int dispatchBatchSize;
+
+    public DigestService(TaskRepository taskRepository,
+                         CommentRepository commentRepository,
+                         UserRepository userRepository,
+                         @Qualifier("emailServiceImpl") EmailService emailService,
+                         @Value("${digest.render-threads:4}") int renderThreads,
+                         @Value("${digest.shard-size:500}") int shardSize,
+                         @Value("${digest.dispatch-batch-size:50}") int dispatchBatchSize) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.emailService = emailService;
+        this.shardSize = shardSize;
+        this.dispatchBatchSize = dispatchBatchSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.renderPool = Executors.newFixedThreadPool(renderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "digest-render-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+    }
+
+    // 요약 메일 발송: 구독자를 샤드 단위로 나눠 샤드마다 집합 조회 3번으로 처리
+    public void sendDigests(List<Long> userIds, LocalDateTime since, String digestType) {
+        long started = System.nanoTime();
+        int sent = 0;
+        for (int from = 0; from < userIds.size(); from += shardSize) {
+            List<Long> shard = userIds.subList(from, Math.min(from + shardSize, userIds.size()));
+            try {
+                sent += sendDigestShard(shard, since, digestType);
+            } catch (Exception e) {
+                logger.error("{} 요약 메일 샤드 처리 실패 | 사용자 ID {} ~ {}", digestType, shard.get(0), shard.get(shard.size() - 1), e);
+            }
+        }
+        logger.info("{} 요약 메일 처리 완료 | 대상 {}명, 발송 {}건, 소요 {}ms",
+                digestType, userIds.size(), sent, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int sendDigestShard(List<Long> userIds, LocalDateTime since, String digestType) {
+        List<DigestItem> newTasks = taskRepository.findNewTaskDigestItems(userIds, since);
+        List<DigestItem> completedTasks = taskRepository.findCompletedTaskDigestItems(userIds, since);
+        List<DigestItem> commentedTasks = commentRepository.findCommentedTaskDigestItems(userIds, since);
+
+        Map<Long, String> bodies = DigestRenderer.renderAll(userIds, newTasks, completedTasks, commentedTasks, digestType, renderPool);
+        if (bodies.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> emails = userRepository.findByIdIn(bodies.keySet()).stream()
+                .collect(Collectors.toMap(UserRepository.EmailView::getId, UserRepository.EmailView::getEmail));
+        String subject = String.format("[TaskFlow] %s 요약", digestType);
+
+        List<EmailMessage> batch = new ArrayList<>(dispatchBatchSize);
+        int sent = 0;
+        for (Map.Entry<Long, String> entry : bodies.entrySet()) {
+            String email = emails.get(entry.getKey());
+            if (email == null) {
+                continue;
+            }
+            batch.add(new EmailMessage(email, subject, entry.getValue()));
+            if (batch.size() >= dispatchBatchSize) {
+                emailService.sendEmails(batch);
+                sent += batch.size();
+                batch = new ArrayList<>(dispatchBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            emailService.sendEmails(batch);
+            sent += batch.size();
+        }
+        return sent;
+    }
+}
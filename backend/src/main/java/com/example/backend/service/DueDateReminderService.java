@@ -0,0 +1,199 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DueTaskReminder;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.job.JobCheckpoint;
+import com.example.backend.entity.notification.Notification;
+import com.example.backend.entity.notification.NotificationType;
+import com.example.backend.entity.user.User;
+import com.example.backend.repository.JobCheckpointRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 마감 알림 작업: 청크 단위로 알림을 만들고 같은 트랜잭션에서 진행 위치를 기록
+@Service
+@RequiredArgsConstructor
+public class DueDateReminderService {
+
+    public static final String JOB_NAME = "task-due-date-reminder";
+    private static final int REMIND_DAYS_AHEAD = 3;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final NotificationService notificationService;
+
+    @Value("${frontend.base-url}")
+    private String frontendBaseUrl;
+
+    public record ChunkResult(int processed, long lastAssigneeId) {
+    }
+
+    // 정밀 마감 알림 한 건 (업무, 등록 당시 마감일, 마감까지 남은 시간)
+    public record PreciseReminder(Long taskId, LocalDate dueDate, Duration offset) {
+    }
+
+    // 오늘 끝나지 않은 실행이 있으면 그 슬롯을 반환 (중단된 작업 재개용)
+    @Transactional(readOnly = true)
+    public Optional<Integer> findUnfinishedSlot(LocalDate today) {
+        return checkpointRepository.findByJobName(JOB_NAME)
+                .filter(checkpoint -> !checkpoint.isCompleted() && today.equals(checkpoint.getRunDate()))
+                .map(JobCheckpoint::getRunSlot);
+    }
+
+    // 마감이 가까운 진행 중 업무가 있는 담당자 (ID 순)
+    @Transactional(readOnly = true)
+    public List<Long> findDueAssigneeIds(LocalDate today) {
+        return taskRepository.findDueAssigneeIds(today, today.plusDays(REMIND_DAYS_AHEAD), Status.DONE);
+    }
+
+    // 해당 슬롯 실행을 시작하거나 이어서 진행할 위치를 반환 (이미 끝났으면 false)
+    @Transactional
+    public boolean begin(LocalDate today, int slot) {
+        JobCheckpoint checkpoint = checkpointRepository.findForUpdateByJobName(JOB_NAME)
+                .orElseGet(() -> new JobCheckpoint(JOB_NAME));
+        boolean sameRun = today.equals(checkpoint.getRunDate()) && checkpoint.getRunSlot() == slot;
+        if (sameRun && checkpoint.isCompleted()) {
+            return false;
+        }
+        if (!sameRun) {
+            checkpoint.start(today, slot);
+        }
+        checkpointRepository.save(checkpoint);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public long lastAssigneeId() {
+        return checkpointRepository.findByJobName(JOB_NAME).map(JobCheckpoint::getLastGroupId).orElse(0L);
+    }
+
+    @Transactional
+    public ChunkResult processChunk(Collection<Long> assigneeIds, LocalDate today, int chunkSize) {
+        JobCheckpoint checkpoint = checkpointRepository.findForUpdateByJobName(JOB_NAME)
+                .orElseThrow(() -> new IllegalStateException("마감 알림 작업 진행 기록이 없습니다."));
+
+        List<DueTaskReminder> reminders = taskRepository.findDueReminderChunk(
+                assigneeIds, today, today.plusDays(REMIND_DAYS_AHEAD), Status.DONE,
+                checkpoint.getLastGroupId(), checkpoint.getLastId(), PageRequest.of(0, chunkSize));
+        if (reminders.isEmpty()) {
+            return new ChunkResult(0, checkpoint.getLastGroupId());
+        }
+
+        Map<Long, User> assignees = userRepository.findWithProfileByIdIn(
+                        reminders.stream().map(DueTaskReminder::getAssigneeId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>(reminders.size());
+        for (DueTaskReminder reminder : reminders) {
+            User assignee = assignees.get(reminder.getAssigneeId());
+            if (assignee == null) {
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .user(assignee)
+                    .actor(assignee)
+                    .type(NotificationType.TASK_DUE_DATE)
+                    .message(buildMessage(reminder, today))
+                    .link(String.format(frontendBaseUrl + "/dashboard/project/%d?taskId=%d", reminder.getProjectId(), reminder.getTaskId()))
+                    .build());
+        }
+        notificationService.createAndSendNotifications(notifications);
+
+        DueTaskReminder last = reminders.get(reminders.size() - 1);
+        checkpoint.setLastGroupId(last.getAssigneeId());
+        checkpoint.setLastId(last.getTaskId());
+        return new ChunkResult(reminders.size(), last.getAssigneeId());
+    }
+
+    // 타이밍 휠에서 시각이 된 알림: 업무를 다시 조회해 마감일/상태/담당자가 그대로일 때만 알림 생성
+    @Transactional
+    public int sendPreciseReminders(List<PreciseReminder> reminders) {
+        if (reminders.isEmpty()) {
+            return 0;
+        }
+        Map<Long, DueTaskReminder> targets = taskRepository.findReminderTargets(
+                        reminders.stream().map(PreciseReminder::taskId).collect(Collectors.toSet()), Status.DONE)
+                .stream()
+                .collect(Collectors.toMap(DueTaskReminder::getTaskId, Function.identity()));
+
+        List<PreciseReminder> valid = reminders.stream()
+                .filter(reminder -> {
+                    DueTaskReminder target = targets.get(reminder.taskId());
+                    return target != null && reminder.dueDate().equals(target.getDueDate());
+                })
+                .toList();
+        if (valid.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, User> assignees = userRepository.findWithProfileByIdIn(
+                        valid.stream().map(reminder -> targets.get(reminder.taskId()).getAssigneeId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>(valid.size());
+        for (PreciseReminder reminder : valid) {
+            DueTaskReminder target = targets.get(reminder.taskId());
+            User assignee = assignees.get(target.getAssigneeId());
+            if (assignee == null) {
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .user(assignee)
+                    .actor(assignee)
+                    .type(NotificationType.TASK_DUE_DATE)
+                    .message(String.format("업무 '<strong>%s</strong>'의 마감까지 %s 남았습니다.", target.getTitle(), describe(reminder.offset())))
+                    .link(String.format(frontendBaseUrl + "/dashboard/project/%d?taskId=%d", target.getProjectId(), target.getTaskId()))
+                    .build());
+        }
+        notificationService.createAndSendNotifications(notifications);
+        return notifications.size();
+    }
+
+    private static String describe(Duration offset) {
+        if (offset.toDays() > 0 && offset.toHours() % 24 == 0) {
+            return offset.toDays() + "일";
+        }
+        if (offset.toHours() > 0 && offset.toMinutes() % 60 == 0) {
+            return offset.toHours() + "시간";
+        }
+        return Math.max(offset.toMinutes(), 1) + "분";
+    }
+
+    @Transactional
+    public void complete() {
+        checkpointRepository.findForUpdateByJobName(JOB_NAME).ifPresent(checkpoint -> checkpoint.setCompleted(true));
+    }
+
+    private static String buildMessage(DueTaskReminder reminder, LocalDate today) {
+        long daysUntilDue = ChronoUnit.DAYS.between(today, reminder.getDueDate());
+        String dayDescription;
+
+        if (daysUntilDue == 0) {
+            dayDescription = "마감 기한이 오늘까지입니다.";
+        } else if (daysUntilDue == 1) {
+            dayDescription = "마감 기한이 하루 남았습니다.";
+        } else {
+            dayDescription = String.format("마감 기한이 %d일 남았습니다.", daysUntilDue);
+        }
+        return String.format("업무 '<strong>%s</strong>'의 %s", reminder.getTitle(), dayDescription);
+    }
+}
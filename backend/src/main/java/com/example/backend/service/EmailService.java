@@ -1,5 +1,9 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.EmailMessage;
+
+import java.util.List;
+
 public interface EmailService {
     void sendPasswordResetEmail(String toEmail, String token, String resetUrlBase);
     void sendProjectInvitationEmail(String toEmail, String projectName, String inviterName, String invitationLink);
@@ -7,4 +11,5 @@ public interface EmailService {
     void sendVerificationEmail(String toEmail, String token, String verificationUrlBase);
     void sendNotificationEmail(String toEmail, String subject, String message, String link);
     void sendEmail(String toEmail, String subject, String htmlBody);
+    void sendEmails(List<EmailMessage> messages);
 }
\ No newline at end of file
@@ -1,16 +1,20 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.EmailMessage;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service("emailServiceImpl")
 public class EmailServiceImpl implements EmailService {
@@ -30,13 +34,7 @@ public class EmailServiceImpl implements EmailService {
     // 공통 HTML 이메일 발송 메소드
     public void sendEmail(String toEmail, String subject, String htmlBody) {
         try {
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
-            String fromDisplayName = "TaskFlow";
-            helper.setFrom(fromEmail, fromDisplayName);
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true);
+            MimeMessage mimeMessage = createHtmlMessage(toEmail, subject, htmlBody);
             javaMailSender.send(mimeMessage);
             logger.info("'{}'에게 이메일 전송 성공", toEmail);
         } catch (MessagingException | UnsupportedEncodingException e) {
@@ -44,6 +42,41 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
+    // 여러 메일을 하나의 SMTP 연결로 묶어서 발송
+    @Override
+    @Async
+    public void sendEmails(List<EmailMessage> messages) {
+        List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+        for (EmailMessage message : messages) {
+            try {
+                mimeMessages.add(createHtmlMessage(message.getToEmail(), message.getSubject(), message.getHtmlBody()));
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                logger.error("'{}'에게 보낼 이메일 생성 실패", message.getToEmail(), e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return;
+        }
+        try {
+            javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            logger.info("이메일 일괄 전송 성공 | {}건", mimeMessages.size());
+        } catch (MailException e) {
+            logger.error("이메일 일괄 전송 중 일부 또는 전체 실패 | {}건", mimeMessages.size(), e);
+        }
+    }
+
+    private MimeMessage createHtmlMessage(String toEmail, String subject, String htmlBody)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
+        String fromDisplayName = "TaskFlow";
+        helper.setFrom(fromEmail, fromDisplayName);
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        helper.setText(htmlBody, true);
+        return mimeMessage;
+    }
+
     //본인인증
     @Override
     @Async
@@ -106,7 +139,11 @@ public class EmailServiceImpl implements EmailService {
     //알람
     @Override
     public void sendNotificationEmail(String to, String subject, String message, String link) {
-        String htmlBody = String.format(
+        sendEmail(to, subject, buildNotificationBody(message, link));
+    }
+
+    public static String buildNotificationBody(String message, String link) {
+        return String.format(
                 "<div style='font-family: sans-serif;'>" +
                         "<h2>TaskFlow 알림</h2>" +
                         "<div style='border-left: 3px solid #007bff; padding-left: 15px; margin: 15px 0;'>" +
@@ -116,7 +153,6 @@ public class EmailServiceImpl implements EmailService {
                         "</div>",
                 message, link
         );
-        sendEmail(to, subject, htmlBody);
     }
 
 
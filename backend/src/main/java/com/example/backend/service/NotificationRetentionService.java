@@ -0,0 +1,103 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.notification.Notification;
+import com.example.backend.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.retention.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${notification.retention.archive.dir:./archive/notifications}")
+    private String archiveDir;
+
+    public record ChunkResult(int scanned, int deleted, LocalDateTime lastCreatedAt, Long lastId) {
+    }
+
+    // 보관 기간이 지난 알림 한 청크를 (선택적으로 보관 파일에 기록한 뒤) 삭제
+    @Transactional
+    public ChunkResult purgeChunk(boolean isRead, LocalDateTime before, LocalDateTime afterCreatedAt, Long afterId,
+                                  int chunkSize, Path archiveFile) {
+        List<Notification> chunk = notificationRepository.findRetentionChunk(
+                isRead, before, afterCreatedAt, afterId, PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return new ChunkResult(0, 0, afterCreatedAt, afterId);
+        }
+
+        if (archiveFile != null) {
+            appendToArchive(archiveFile, chunk);
+        }
+
+        List<Long> ids = chunk.stream().map(Notification::getId).toList();
+        int deleted = notificationRepository.deleteByIdIn(ids);
+
+        Notification last = chunk.get(chunk.size() - 1);
+        return new ChunkResult(chunk.size(), deleted, last.getCreatedAt(), last.getId());
+    }
+
+    public Path resolveArchiveFile(LocalDateTime runStartedAt) {
+        if (!archiveEnabled) {
+            return null;
+        }
+        try {
+            Path dir = Paths.get(archiveDir).toAbsolutePath().normalize();
+            Files.createDirectories(dir);
+            String date = runStartedAt.toLocalDate().toString();
+            return dir.resolve("notifications-" + date + ".jsonl.gz");
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 보관 디렉토리를 생성할 수 없습니다: " + archiveDir, e);
+        }
+    }
+
+    // 청크마다 gzip 멤버를 하나씩 덧붙임 (zcat 등으로 연속 해제 가능)
+    private void appendToArchive(Path archiveFile, List<Notification> chunk) {
+        try (OutputStream out = Files.newOutputStream(archiveFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            for (Notification notification : chunk) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", notification.getId());
+                row.put("userId", notification.getUser().getId());
+                row.put("actorId", notification.getActor() != null ? notification.getActor().getId() : null);
+                row.put("type", notification.getType());
+                row.put("message", notification.getMessage());
+                row.put("link", notification.getLink());
+                row.put("isRead", notification.isRead());
+                row.put("createdAt", notification.getCreatedAt());
+                gzip.write(objectMapper.writeValueAsBytes(row));
+                gzip.write('\n');
+            }
+            gzip.finish();
+        } catch (IOException e) {
+            logger.error("알림 보관 파일 기록 실패 | 파일: {}", archiveFile, e);
+            throw new UncheckedIOException("알림 보관 파일 기록에 실패했습니다.", e);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.EmailMessage;
 import com.example.backend.dto.NotificationResponse;
 import com.example.backend.entity.notification.Notification;
-import com.example.backend.entity.notification.NotificationSettings;
 import com.example.backend.entity.notification.NotificationType;
 import com.example.backend.entity.user.User;
 import com.example.backend.repository.NotificationRepository;
-import com.example.backend.repository.NotificationSettingsRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -14,9 +13,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,12 +31,34 @@ public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
     private final NotificationRepository notificationRepository;
-    private final NotificationSettingsRepository settingsRepository;
+    private final NotificationSettingsCache settingsCache;
     private final EmailService emailService;
     private final SseService sseService;
 
+    @Value("${notification.aggregation.enabled:true}")
+    private boolean aggregationEnabled;
+
+    @Value("${notification.aggregation.window-minutes:30}")
+    private long aggregationWindowMinutes;
+
     @Transactional
     public void createAndSendNotification(User recipient, NotificationType type, String message, String link, User actor) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<Notification> openAggregate = findOpenAggregate(recipient, type, link, now);
+        if (openAggregate.isPresent()) {
+            Notification aggregated = openAggregate.get();
+            aggregated.setAggregateCount(aggregated.getAggregateCount() + 1);
+            aggregated.setActor(actor);
+            aggregated.setMessage(message);
+            aggregated.setLastAggregatedAt(now);
+
+            // 묶인 알림은 갱신된 내용만 실시간 전송하고 이메일은 다시 보내지 않음
+            sseService.sendNotification(recipient.getId(), new NotificationResponse(aggregated));
+            logger.debug("알림 집계 | 알림 ID: {}, 누적 {}건", aggregated.getId(), aggregated.getAggregateCount());
+            return;
+        }
+
         Notification notification = Notification.builder()
                 .user(recipient)
                 .type(type)
@@ -38,37 +66,80 @@ public class NotificationService {
                 .link(link)
                 .actor(actor)
                 .isRead(false)
+                .lastAggregatedAt(now)
                 .build();
         Notification savedNotification = notificationRepository.save(notification);
 
         sseService.sendNotification(recipient.getId(), new NotificationResponse(savedNotification));
 
-        settingsRepository.findById(recipient.getId()).ifPresent(settings -> {
-            if (shouldSendEmail(settings, type)) {
-                String linkWithRecipient = String.format("%s&recipientId=%d", link, recipient.getId());
-                String emailTitle = "[TaskFlow] 새 알림: " + type.getDisplayName();
-                emailService.sendNotificationEmail(recipient.getEmail(), emailTitle, message, linkWithRecipient);
+        if (settingsCache.shouldSendEmail(recipient.getId(), type)) {
+            String linkWithRecipient = String.format("%s&recipientId=%d", link, recipient.getId());
+            String emailTitle = "[TaskFlow] 새 알림: " + type.getDisplayName();
+            emailService.sendNotificationEmail(recipient.getEmail(), emailTitle, message, linkWithRecipient);
+        }
+    }
+
+    // 시스템 작업이 만든 알림을 한 번에 저장하고, 실시간 전송과 이메일은 모아서 처리 (집계하지 않음)
+    // 전송은 트랜잭션이 커밋된 뒤에만 하므로, 롤백 후 같은 청크를 다시 처리해도 두 번 보내지 않음
+    @Transactional
+    public void createAndSendNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        notifications.forEach(notification -> {
+            notification.setRead(false);
+            notification.setLastAggregatedAt(now);
+        });
+        List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
+
+        List<Map.Entry<Long, NotificationResponse>> pushes = new ArrayList<>(savedNotifications.size());
+        List<EmailMessage> emails = new ArrayList<>();
+        for (Notification notification : savedNotifications) {
+            User recipient = notification.getUser();
+            pushes.add(Map.entry(recipient.getId(), new NotificationResponse(notification)));
+
+            if (settingsCache.shouldSendEmail(recipient.getId(), notification.getType())) {
+                String linkWithRecipient = String.format("%s&recipientId=%d", notification.getLink(), recipient.getId());
+                String emailTitle = "[TaskFlow] 새 알림: " + notification.getType().getDisplayName();
+                emails.add(new EmailMessage(recipient.getEmail(), emailTitle,
+                        EmailServiceImpl.buildNotificationBody(notification.getMessage(), linkWithRecipient)));
+            }
+        }
+        runAfterCommit(() -> {
+            pushes.forEach(push -> sseService.sendNotification(push.getKey(), push.getValue()));
+            if (!emails.isEmpty()) {
+                emailService.sendEmails(emails);
             }
         });
     }
 
-    private boolean shouldSendEmail(NotificationSettings settings, NotificationType type) {
-        if (!settings.isEmailNotifications()) {
-            return false;
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Optional<Notification> findOpenAggregate(User recipient, NotificationType type, String link, LocalDateTime now) {
+        if (!aggregationEnabled || !type.isAggregatable() || link == null) {
+            return Optional.empty();
         }
-        return switch (type) {
-            case TASK_ASSIGNED -> settings.isTaskAssigned();
-            case TASK_UPDATED -> settings.isTaskUpdated();
-            case TASK_COMMENT -> settings.isTaskCommented();
-            case TASK_DUE_DATE -> settings.isTaskDueDate();
-            case PROJECT_INVITATION -> settings.isProjectInvitation();
-            default -> false;
-        };
+        LocalDateTime windowStart = now.minusMinutes(aggregationWindowMinutes);
+        return notificationRepository.findOpenAggregates(recipient.getId(), type, link, windowStart, PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
     }
 
     @Transactional(readOnly = true)
     public List<NotificationResponse> getNotificationsForUser(User user) {
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        List<Notification> notifications = notificationRepository.findByUserIdOrderByLastAggregatedAtDescCreatedAtDesc(user.getId());
         return notifications.stream()
                 .map(NotificationResponse::new)
                 .collect(Collectors.toList());
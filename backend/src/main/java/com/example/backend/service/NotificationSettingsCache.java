@@ -0,0 +1,172 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.notification.NotificationSettings;
+import com.example.backend.entity.notification.NotificationType;
+import com.example.backend.repository.NotificationSettingsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 알림 설정을 비트셋(int) 하나로 메모리에 보관하는 캐시
+@Component
+public class NotificationSettingsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationSettingsCache.class);
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    static final int EMAIL = 1;
+    static final int TASK_ASSIGNED = 1 << 1;
+    static final int TASK_UPDATED = 1 << 2;
+    static final int TASK_COMMENT = 1 << 3;
+    static final int TASK_DUE_DATE = 1 << 4;
+    static final int PROJECT_INVITATION = 1 << 5;
+    static final int DAILY_DIGEST = 1 << 6;
+    static final int WEEKLY_DIGEST = 1 << 7;
+    // 8번 비트부터 5비트: 수신 희망 시각 + 1 (0이면 지정 안 함)
+    static final int DELIVERY_HOUR_SHIFT = 8;
+    static final int DELIVERY_HOUR_MASK = 0x1F << DELIVERY_HOUR_SHIFT;
+
+    private final NotificationSettingsRepository settingsRepository;
+    private final Map<Long, Integer> bitsByUserId = new ConcurrentHashMap<>();
+    // put() 으로 바뀐 사용자별 쓰기 순번: 전체 적재 중에 바뀐 사용자는 적재 결과(더 오래된 값)로 덮어쓰지 않음
+    private final Map<Long, Long> writeSeqByUserId = new ConcurrentHashMap<>();
+    private final AtomicLong writeSeq = new AtomicLong();
+
+    public NotificationSettingsCache(NotificationSettingsRepository settingsRepository) {
+        this.settingsRepository = settingsRepository;
+    }
+
+    // 애플리케이션 시작 시, 그리고 다른 인스턴스의 변경을 반영하기 위해 주기적으로 전체 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${notification.settings-cache.refresh-ms:600000}",
+            initialDelayString = "${notification.settings-cache.refresh-ms:600000}")
+    public void reload() {
+        long startedSeq = writeSeq.get();
+        Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+        int page = 0;
+        Page<NotificationSettings> settingsPage;
+        do {
+            settingsPage = settingsRepository.findAll(PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id")));
+            for (NotificationSettings settings : settingsPage) {
+                loaded.put(settings.getUser().getId(), encode(settings));
+            }
+        } while (settingsPage.hasNext());
+
+        // put() 과 같은 키 잠금(compute) 안에서 비교해, 비교와 반영 사이에 들어온 쓰기도 덮어쓰지 않음
+        for (Long userId : new ArrayList<>(bitsByUserId.keySet())) {
+            if (!loaded.containsKey(userId)) {
+                bitsByUserId.computeIfPresent(userId, (id, current) -> writtenSince(id, startedSeq) ? current : null);
+            }
+        }
+        loaded.forEach((userId, bits) ->
+                bitsByUserId.compute(userId, (id, current) -> writtenSince(id, startedSeq) ? current : bits));
+        // 적재 시작 전의 쓰기는 커밋된 뒤라 적재 결과에 이미 들어 있음
+        writeSeqByUserId.values().removeIf(seq -> seq <= startedSeq);
+        logger.info("알림 설정 캐시 적재 완료 | 사용자 {}명", loaded.size());
+    }
+
+    // 호출한 트랜잭션이 커밋된 뒤에 반영 (롤백된 설정이 캐시에 남거나, 커밋 전 값이 다른 요청에 보이지 않게 함)
+    public void put(NotificationSettings settings) {
+        Long userId = settings.getUser().getId();
+        int bits = encode(settings);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, bits);
+                }
+            });
+        } else {
+            apply(userId, bits);
+        }
+    }
+
+    private void apply(Long userId, int bits) {
+        bitsByUserId.compute(userId, (id, current) -> {
+            writeSeqByUserId.put(id, writeSeq.incrementAndGet());
+            return bits;
+        });
+    }
+
+    private boolean writtenSince(Long userId, long seq) {
+        Long written = writeSeqByUserId.get(userId);
+        return written != null && written > seq;
+    }
+
+    public boolean shouldSendEmail(Long userId, NotificationType type) {
+        int bits = bitsFor(userId);
+        if ((bits & EMAIL) == 0) {
+            return false;
+        }
+        return switch (type) {
+            case TASK_ASSIGNED -> (bits & TASK_ASSIGNED) != 0;
+            case TASK_UPDATED -> (bits & TASK_UPDATED) != 0;
+            case TASK_COMMENT -> (bits & TASK_COMMENT) != 0;
+            case TASK_DUE_DATE -> (bits & TASK_DUE_DATE) != 0;
+            case PROJECT_INVITATION -> (bits & PROJECT_INVITATION) != 0;
+        };
+    }
+
+    public List<Long> getDailyDigestUserIds() {
+        return userIdsWith(DAILY_DIGEST);
+    }
+
+    public List<Long> getWeeklyDigestUserIds() {
+        return userIdsWith(WEEKLY_DIGEST);
+    }
+
+    public Integer getDeliveryHour(Long userId) {
+        int encoded = (bitsFor(userId) & DELIVERY_HOUR_MASK) >>> DELIVERY_HOUR_SHIFT;
+        return encoded == 0 ? null : encoded - 1;
+    }
+
+    private List<Long> userIdsWith(int flag) {
+        List<Long> userIds = new ArrayList<>();
+        bitsByUserId.forEach((userId, bits) -> {
+            if ((bits & flag) == flag) {
+                userIds.add(userId);
+            }
+        });
+        userIds.sort(Long::compareTo);
+        return userIds;
+    }
+
+    // 캐시에 없는 사용자는 한 번만 DB에서 읽어 채움 (설정이 없으면 0 = 모두 꺼짐)
+    private int bitsFor(Long userId) {
+        Integer bits = bitsByUserId.get(userId);
+        if (bits != null) {
+            return bits;
+        }
+        return bitsByUserId.computeIfAbsent(userId, id -> settingsRepository.findByUserId(id)
+                .map(NotificationSettingsCache::encode)
+                .orElse(0));
+    }
+
+    static int encode(NotificationSettings settings) {
+        int bits = 0;
+        if (settings.isEmailNotifications()) bits |= EMAIL;
+        if (settings.isTaskAssigned()) bits |= TASK_ASSIGNED;
+        if (settings.isTaskUpdated()) bits |= TASK_UPDATED;
+        if (settings.isTaskCommented()) bits |= TASK_COMMENT;
+        if (settings.isTaskDueDate()) bits |= TASK_DUE_DATE;
+        if (settings.isProjectInvitation()) bits |= PROJECT_INVITATION;
+        if (settings.isDailyDigest()) bits |= DAILY_DIGEST;
+        if (settings.isWeeklyDigest()) bits |= WEEKLY_DIGEST;
+        if (settings.getDeliveryHour() != null) bits |= (settings.getDeliveryHour() + 1) << DELIVERY_HOUR_SHIFT;
+        return bits;
+    }
+}
@@ -35,16 +35,19 @@ public class OAuthService {
     private final PasswordEncoder passwordEncoder;
     private final GoogleIdTokenVerifier verifier;
     private final NotificationSettingsRepository notificationSettingsRepository;
+    private final NotificationSettingsCache notificationSettingsCache;
 
     public OAuthService(UserRepository userRepository,
                        JwtTokenProvider jwtTokenProvider,
                        PasswordEncoder passwordEncoder,
                        @Value("${google.oauth.client.id}") String googleClientId,
-                        NotificationSettingsRepository notificationSettingsRepository) {
+                        NotificationSettingsRepository notificationSettingsRepository,
+                        NotificationSettingsCache notificationSettingsCache) {
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
         this.passwordEncoder = passwordEncoder;
         this.notificationSettingsRepository = notificationSettingsRepository;
+        this.notificationSettingsCache = notificationSettingsCache;
         this.verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory())
                 .setAudience(Collections.singletonList(googleClientId))
                 .build();
@@ -101,6 +104,7 @@ public class OAuthService {
             newUser.setNotificationSettings(newSettings);
 
             user = userRepository.save(newUser);
+            notificationSettingsCache.put(newSettings);
             logger.info("새로운 계정 생성 완료: {}", email);
         }
         String userRoleOrType = user.getProvider().name();
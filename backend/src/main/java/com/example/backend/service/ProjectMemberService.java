@@ -3,6 +3,7 @@ package com.example.backend.service;
 import com.example.backend.dto.InvitationDetailsResponse;
 import com.example.backend.dto.InviteUserRequest;
 import com.example.backend.dto.ProjectMemberResponse;
+import com.example.backend.entity.activitylog.ActivityLogParams;
 import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.notification.NotificationType;
 import com.example.backend.entity.project.Project;
@@ -45,9 +46,12 @@ public class ProjectMemberService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final TaskRepository taskRepository;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
     private ActivityLogService activityLogService;
     private final NotificationService notificationService;
     private final SseService sseService;
+    private final ActivityFeedService activityFeedService;
 
     @Value("${frontend.accept-invitation.url}")
     private String acceptInvitationUrlBase;
@@ -57,15 +61,21 @@ public class ProjectMemberService {
                                 UserRepository userRepository,
                                 @Qualifier("emailServiceImpl") EmailService emailService,
                                 TaskRepository taskRepository,
+                                ProjectStatsService projectStatsService,
+                                UserWorkloadService userWorkloadService,
                                 NotificationService notificationService,
-                                SseService sseService) {
+                                SseService sseService,
+                                ActivityFeedService activityFeedService) {
         this.projectMemberRepository = projectMemberRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.taskRepository = taskRepository;
+        this.projectStatsService = projectStatsService;
+        this.userWorkloadService = userWorkloadService;
         this.notificationService = notificationService;
         this.sseService = sseService;
+        this.activityFeedService = activityFeedService;
     }
 
     @Autowired
@@ -82,6 +92,7 @@ public class ProjectMemberService {
                 .joinedAt(LocalDateTime.now())
                 .build();
         projectMemberRepository.save(creatorMembership);
+        activityFeedService.evictMemberships(creator.getId());
         logger.info("사용자 {}이 프로젝트 {}의 관리자가 됨", creator.getEmail(), project.getId());
     }
 
@@ -135,10 +146,8 @@ public class ProjectMemberService {
                 .build();
         projectMemberRepository.save(newInvitation);
 
-        String inviteeIdentifier = userToInviteOpt.map(User::getName).orElse(inviteeEmail);
-
-        String message = String.format("<strong>%s</strong>님이 <strong>%s</strong>님을 프로젝트에 초대했습니다.", inviter.getName(), inviteeIdentifier);
-        activityLogService.createLog(project, inviter, message, ActivityLogType.MEMBER_INVITED);
+        activityLogService.createLog(project, inviter, ActivityLogType.MEMBER_INVITED,
+                ActivityLogParams.invitee(userToInviteOpt.orElse(null), inviteeEmail));
 
         String invitationLink = acceptInvitationUrlBase + "?token=" + invitationToken;
 
@@ -197,9 +206,9 @@ public class ProjectMemberService {
         invitation.setInvitationToken(null);
         invitation.setInvitationTokenExpiry(null);
         projectMemberRepository.save(invitation);
+        activityFeedService.evictMemberships(acceptingUser.getId());
         sseService.broadcastToProjectMembers(invitation.getProject().getId(), "project-updated", Map.of("projectId", invitation.getProject().getId()));
-        String message = String.format("<strong>%s</strong>님이 프로젝트 초대를 수락했습니다.", acceptingUser.getName());
-        activityLogService.createLog(invitation.getProject(), acceptingUser, message, ActivityLogType.MEMBER_JOINED);
+        activityLogService.createLog(invitation.getProject(), acceptingUser, ActivityLogType.MEMBER_JOINED, ActivityLogParams.empty());
         logger.info("사용자 {}이 프로젝트 참가 수락 : {}", acceptingUser.getEmail(), invitation.getProject().getName());
     }
 
@@ -264,9 +273,8 @@ public class ProjectMemberService {
 
         memberToUpdate.setRole(newRole);
         projectMemberRepository.save(memberToUpdate);
-        String message = String.format("<strong>%s</strong>님이 <strong>%s</strong>님의 역할을 <strong>%s</strong>(으)로 변경했습니다.",
-                adminUser.getName(), memberToUpdate.getUser().getName(), newRole);
-        activityLogService.createLog(project, adminUser, message, ActivityLogType.MEMBER_ROLE_CHANGED);
+        activityLogService.createLog(project, adminUser, ActivityLogType.MEMBER_ROLE_CHANGED,
+                ActivityLogParams.roleChange(memberToUpdate.getUser(), newRole));
         logger.info("ADMIN {}이 멤버 {}의 역할을 {}으로 변경", adminUser.getEmail(), memberToUpdate.getUser().getEmail(), newRole);
     }
 
@@ -294,15 +302,18 @@ public class ProjectMemberService {
 
         if (!assignedTasks.isEmpty()) {
             logger.info("'{}' 프로젝트에서 사용자 '{}'에게 할당된 {}개의 업무를 '미배정'으로 변경합니다.", project.getName(), userToRemove.getEmail(), assignedTasks.size());
+            List<TaskState> before = assignedTasks.stream().map(TaskState::of).toList();
             for (Task task : assignedTasks) {
                 task.setAssignee(null);
             }
             taskRepository.saveAll(assignedTasks);
+            List<TaskState> after = assignedTasks.stream().map(TaskState::of).toList();
+            projectStatsService.applyChanges(projectId, before, after);
+            userWorkloadService.applyChanges(before, after);
         }
         projectMemberRepository.delete(memberToRemove);
-        String message = String.format("<strong>%s</strong>님이 <strong>%s</strong>님을 프로젝트에서 제외했습니다.",
-                adminUser.getName(), memberToRemove.getUser().getName());
-        activityLogService.createLog(project, adminUser, message, ActivityLogType.MEMBER_REMOVED);
+        activityFeedService.evictMemberships(userToRemove.getId());
+        activityLogService.createLog(project, adminUser, ActivityLogType.MEMBER_REMOVED, ActivityLogParams.member(userToRemove));
         sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
         logger.info("관리자 {}이 사용자 {}을 project {}에서 삭제", adminUser.getEmail(), memberToRemove.getUser().getEmail(), project.getName());
     }
@@ -0,0 +1,97 @@
+package com.example.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+// 삭제 표시된 프로젝트의 하위 데이터를 아래에서부터(댓글 → 업무, 보관된 댓글 → 보관된 업무, 활동 로그 → 통계/멤버십 → 프로젝트) 지움
+// 청크마다 짧은 트랜잭션의 bulk DELETE 라서 잠금이 짧고, 중간에 멈춰도 다음 실행이 남은 행부터 이어서 지움
+@Service
+public class ProjectPurgeService {
+
+    private static final RowMapper<PurgeTarget> TARGET_MAPPER = (rs, rowNum) -> new PurgeTarget(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getLong("tasks") + rs.getLong("archived_tasks"),
+            rs.getTimestamp("deleted_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectStatsService projectStatsService;
+    private final ActivityLogArchive archive;
+    private final int chunkSize;
+
+    public ProjectPurgeService(JdbcTemplate jdbcTemplate,
+                               ProjectStatsService projectStatsService,
+                               ActivityLogArchive archive,
+                               @Value("${projects.purge.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectStatsService = projectStatsService;
+        this.archive = archive;
+        this.chunkSize = chunkSize;
+    }
+
+    // tasks: 조회 시점에 남은 업무 수 (진행률 표시용, 업무 + 보관된 업무, 이어서 지우는 실행이면 남은 행만)
+    public record PurgeTarget(Long projectId, String name, long tasks, LocalDateTime deletedAt) {
+    }
+
+    // 엔티티 조회는 삭제된 프로젝트를 제외하므로 직접 조회
+    // 업무 수는 집계 컬럼이 어긋나 있을 수 있으므로 project_id 인덱스로 직접 셈 (삭제 대기 프로젝트는 몇 개뿐)
+    @Transactional(readOnly = true)
+    public List<PurgeTarget> findDeletedProjects() {
+        return jdbcTemplate.query("SELECT p.id, p.name, p.deleted_at, " +
+                "(SELECT COUNT(*) FROM task t WHERE t.project_id = p.id) AS tasks, " +
+                "(SELECT COUNT(*) FROM task_archive a WHERE a.project_id = p.id) AS archived_tasks " +
+                "FROM project p WHERE p.deleted_at IS NOT NULL ORDER BY p.deleted_at, p.id", TARGET_MAPPER);
+    }
+
+    // 업무 한 청크와 그 댓글 삭제 (지운 업무 수 반환, 남은 업무가 없으면 0)
+    @Transactional
+    public int purgeTaskChunk(Long projectId) {
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                "SELECT id FROM task WHERE project_id = ? ORDER BY id LIMIT ?", Long.class, projectId, chunkSize);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(taskIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM comment WHERE task_id IN (" + placeholders + ")", taskIds.toArray());
+        return jdbcTemplate.update("DELETE FROM task WHERE id IN (" + placeholders + ")", taskIds.toArray());
+    }
+
+    // 보관된 업무 한 청크와 그 댓글 삭제 (지운 업무 수 반환)
+    @Transactional
+    public int purgeArchivedTaskChunk(Long projectId) {
+        List<Long> taskIds = jdbcTemplate.queryForList(
+                "SELECT id FROM task_archive WHERE project_id = ? ORDER BY id LIMIT ?", Long.class, projectId, chunkSize);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(taskIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM comment_archive WHERE task_id IN (" + placeholders + ")", taskIds.toArray());
+        return jdbcTemplate.update("DELETE FROM task_archive WHERE id IN (" + placeholders + ")", taskIds.toArray());
+    }
+
+    // 활동 로그 한 청크 삭제 (지운 수 반환)
+    @Transactional
+    public int purgeActivityLogChunk(Long projectId) {
+        return jdbcTemplate.update("DELETE FROM activitylog WHERE project_id = ? ORDER BY id LIMIT ?", projectId, chunkSize);
+    }
+
+    // 콜드 활동 로그 세그먼트 삭제 (지운 파일 수 반환)
+    public int purgeArchivedLogs(Long projectId) {
+        return archive.deleteSegments(projectId);
+    }
+
+    // 마지막 단계: 통계, 남은 멤버십, 프로젝트 행 삭제
+    @Transactional
+    public void finish(Long projectId) {
+        projectStatsService.deleteProjectStats(projectId);
+        jdbcTemplate.update("DELETE FROM project_members WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM project WHERE id = ? AND deleted_at IS NOT NULL", projectId);
+    }
+}
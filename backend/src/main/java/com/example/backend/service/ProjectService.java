@@ -2,19 +2,27 @@ package com.example.backend.service;
 
 import com.example.backend.dto.ProjectRequest;
 import com.example.backend.dto.ProjectResponse;
+import com.example.backend.dto.ProjectStatsResponse;
+import com.example.backend.dto.ProjectSummaryResponse;
+import com.example.backend.entity.activitylog.ActivityLogParams;
 import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.project.Project;
-import com.example.backend.entity.task.Task;
 import com.example.backend.entity.user.User;
 import com.example.backend.entity.Status;
+import com.example.backend.repository.ProjectMemberRepository;
 import com.example.backend.repository.ProjectRepository;
+import com.example.backend.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,9 +35,14 @@ public class ProjectService {
     private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
 
     private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
     private final ProjectMemberService projectMemberService;
     private final ActivityLogService activityLogService;
     private final SseService sseService;
+    private final ActivityFeedService activityFeedService;
 
     public ProjectResponse createProject(ProjectRequest request, User creator) {
         if (request.getStartDate() != null && request.getEndDate() != null &&
@@ -49,8 +62,7 @@ public class ProjectService {
         Project savedProject = projectRepository.save(project);
 
         projectMemberService.addProjectCreatorAsAdmin(savedProject, creator);
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 프로젝트를 생성했습니다.", creator.getName(), savedProject.getName());
-        activityLogService.createLog(savedProject, creator, message, ActivityLogType.PROJECT_CREATED);
+        activityLogService.createLog(savedProject, creator, ActivityLogType.PROJECT_CREATED, ActivityLogParams.empty());
         logger.info("프로젝트 생성 완료 | ID: {}, 이름: '{}'", savedProject.getId(), savedProject.getName());
 
         return new ProjectResponse(savedProject);
@@ -80,8 +92,7 @@ public class ProjectService {
             project.setStatus(projectRequest.getStatus());
         }
         Project updatedProject = projectRepository.save(project);
-        String message = String.format("<strong>%s</strong>님이 프로젝트의 세부 정보를 수정했습니다.", currentUser.getName());
-        activityLogService.createLog(updatedProject, currentUser, message, ActivityLogType.PROJECT_UPDATED);
+        activityLogService.createLog(updatedProject, currentUser, ActivityLogType.PROJECT_UPDATED, ActivityLogParams.empty());
         sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
         logger.info("프로젝트 수정 성공 | ID: {}, 수정자: {}", projectId, currentUser.getEmail());
         return new ProjectResponse(updatedProject);
@@ -93,8 +104,15 @@ public class ProjectService {
 
         projectMemberService.ensureUserIsAdminOfProject(project, currentUser);
 
-        projectRepository.delete(project);
-        logger.info("프로젝트 삭제 성공 | ID: {}, 삭제자: {}", projectId, currentUser.getEmail());
+        // 업무/댓글/활동 로그를 한 트랜잭션에서 지우지 않고 삭제 표시만 함 (ProjectPurgeScheduler 가 나눠서 지움)
+        List<Long> assigneeIds = taskRepository.findAssigneeIdsByProjectId(projectId);
+        project.setDeletedAt(LocalDateTime.now());
+        projectRepository.saveAndFlush(project);
+        projectMemberRepository.deleteByProjectId(projectId);
+        activityFeedService.evictProject(projectId);
+        // 삭제 표시가 커밋된 뒤 새 트랜잭션에서 세야 다른 요청의 증감과 삭제된 업무 제외가 모두 맞음
+        runAfterCommit(() -> userWorkloadService.recompute(assigneeIds, LocalDate.now()));
+        logger.info("프로젝트 삭제 표시 | ID: {}, 삭제자: {}, 담당자 업무량 갱신 {}명", projectId, currentUser.getEmail(), assigneeIds.size());
     }
 
     @Transactional(readOnly = true)
@@ -106,30 +124,88 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
-    public void updateProjectStatus(Long projectId) {
+    // 프로젝트 목록 요약: 프로젝트 수와 관계없이 두 문장 (요약 목록, 프로젝트별 멤버 수)
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryResponse> getMyProjectSummaries(User currentUser) {
+        List<ProjectSummaryResponse> summaries = projectRepository.findSummariesByMemberUserId(currentUser.getId());
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, Long> memberCounts = projectMemberRepository.countAcceptedMembersByProjectIdIn(
+                        summaries.stream().map(ProjectSummaryResponse::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        summaries.forEach(summary -> summary.setMemberCount(memberCounts.getOrDefault(summary.getId(), 0L)));
+        logger.info("사용자 {}의 프로젝트 요약 {}건 조회 성공", currentUser.getEmail(), summaries.size());
+        return summaries;
+    }
+
+    // 프로젝트 통계 패널: 미리 집계된 행만 읽음 (업무 수와 관계없음)
+    @Transactional(readOnly = true)
+    public ProjectStatsResponse getProjectStats(Long projectId, User currentUser) {
         Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("상태를 재계산할 프로젝트를 찾을 수 없습니다: ID " + projectId));
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
 
-        List<Task> tasks = project.getTasks();
-        long totalTasks = tasks.size();
-        long doneTasks = tasks.stream().filter(t -> t.getStatus() == Status.DONE).count();
-        boolean hasInProgress = tasks.stream().anyMatch(t -> t.getStatus() == Status.IN_PROGRESS);
+        projectMemberService.ensureUserCanReadProject(project, currentUser);
+        return projectStatsService.getStats(project);
+    }
 
-        if (tasks.isEmpty()) {
-            project.setStatus(Status.TODO);
-            projectRepository.save(project);
+    // 업무 상태 변화(from -> to, 생성은 from 이 null, 삭제는 to 가 null)를 상태별 업무 수에 반영하고 프로젝트 상태를 갱신
+    // 업무 목록을 읽지 않는 한 문장짜리 UPDATE 라 프로젝트 크기와 관계없이 일정한 비용
+    public void applyTaskStatusChange(Long projectId, Status from, Status to) {
+        if (from == to) {
             return;
         }
+        applyStatusDeltas(projectId,
+                statusDelta(Status.TODO, from, to),
+                statusDelta(Status.IN_PROGRESS, from, to),
+                statusDelta(Status.DONE, from, to),
+                0);
+        logger.debug("프로젝트 상태별 업무 수 갱신 | ID: {}, {} -> {}", projectId, from, to);
+    }
 
-        if (doneTasks == totalTasks) {
-            project.setStatus(Status.DONE);
-        } else if (hasInProgress || doneTasks > 0) {
-            project.setStatus(Status.IN_PROGRESS);
-        } else {
-            project.setStatus(Status.TODO);
+    // 여러 업무의 상태 변화를 합친 증감(상태별 +/-)을 한 번에 반영 (일괄 작업용)
+    public void applyTaskStatusDeltas(Long projectId, Map<Status, Integer> deltas) {
+        int todo = deltas.getOrDefault(Status.TODO, 0);
+        int inProgress = deltas.getOrDefault(Status.IN_PROGRESS, 0);
+        int done = deltas.getOrDefault(Status.DONE, 0);
+        if (todo == 0 && inProgress == 0 && done == 0) {
+            return;
         }
+        applyStatusDeltas(projectId, todo, inProgress, done, 0);
+        logger.debug("프로젝트 상태별 업무 수 일괄 갱신 | ID: {}, 증감: {}", projectId, deltas);
+    }
 
-        projectRepository.save(project);
-        logger.info("프로젝트 상태 재계산 및 업데이트 | ID: {}, 상태 : {}", projectId, project.getStatus());
+    // 완료 업무를 보관하거나(양수) 보관에서 되돌린(음수) 수만큼 완료 수와 보관 수를 옮김
+    public void applyTaskArchiveDelta(Long projectId, int archived) {
+        if (archived == 0) {
+            return;
+        }
+        applyStatusDeltas(projectId, 0, 0, -archived, archived);
+        logger.debug("프로젝트 보관 업무 수 갱신 | ID: {}, 증감: {}", projectId, archived);
+    }
+
+    private void applyStatusDeltas(Long projectId, int todo, int inProgress, int done, int archived) {
+        int updated = projectRepository.applyTaskStatusDelta(projectId, todo, inProgress, done, archived);
+        if (updated == 0) {
+            throw new EntityNotFoundException("상태를 갱신할 프로젝트를 찾을 수 없습니다: ID " + projectId);
+        }
+    }
+
+    private static int statusDelta(Status status, Status from, Status to) {
+        return (status == to ? 1 : 0) - (status == from ? 1 : 0);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
-}
\ No newline at end of file
+}
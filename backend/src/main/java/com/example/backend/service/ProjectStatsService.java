@@ -0,0 +1,225 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ProjectStatsResponse;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.project.ProjectTaskStat;
+import com.example.backend.entity.project.ProjectTaskStatDimension;
+import com.example.backend.entity.task.TaskPriority;
+import com.example.backend.repository.ProjectTaskStatRepository;
+import com.example.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 프로젝트 통계: 업무 쓰기마다 바뀐 (축, 키) 만 증감하고, 조회는 프로젝트의 집계 행만 읽음
+// 마감 지남/이번 주 마감은 날짜별 수를 조회 시점의 오늘 기준으로 더해서 계산 (시간이 지나도 다시 쓸 필요 없음)
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProjectStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+    private static final String UPSERT_DELTA_SQL =
+            "INSERT INTO project_task_stat (project_id, dimension, stat_key, task_count) VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count)";
+    private static final String UPSERT_VALUE_SQL =
+            "INSERT INTO project_task_stat (project_id, dimension, stat_key, task_count) VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE task_count = VALUES(task_count)";
+    // ID 구간 프로젝트의 원본 집계 (축마다 GROUP BY 한 번씩)
+    private static final String ACTUAL_STATS_SQL =
+            "SELECT project_id, 'PRIORITY' AS dimension, priority AS stat_key, COUNT(*) AS task_count FROM task " +
+                    "WHERE project_id BETWEEN ? AND ? GROUP BY project_id, priority " +
+                    "UNION ALL " +
+                    "SELECT project_id, 'OPEN_DUE', COALESCE(DATE_FORMAT(due_date, '%Y-%m-%d'), 'none'), COUNT(*) FROM task " +
+                    "WHERE project_id BETWEEN ? AND ? AND status <> 'DONE' GROUP BY project_id, due_date " +
+                    "UNION ALL " +
+                    "SELECT project_id, 'OPEN_ASSIGNEE', COALESCE(CAST(assignee_id AS CHAR), 'none'), COUNT(*) FROM task " +
+                    "WHERE project_id BETWEEN ? AND ? AND status <> 'DONE' GROUP BY project_id, assignee_id";
+
+    private final ProjectTaskStatRepository statRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private record StatKey(ProjectTaskStatDimension dimension, String key) {
+    }
+
+    public void applyChange(Long projectId, TaskState before, TaskState after) {
+        applyChanges(projectId, before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    // 여러 업무의 변경 전/후 값을 합쳐 키마다 한 번씩 증감 (일괄 작업용)
+    public void applyChanges(Long projectId, List<TaskState> before, List<TaskState> after) {
+        Map<StatKey, Integer> deltas = new HashMap<>();
+        before.forEach(state -> addKeys(deltas, state, -1));
+        after.forEach(state -> addKeys(deltas, state, 1));
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 동시에 같은 프로젝트를 바꾸는 요청끼리 잠금 순서가 엇갈리지 않도록 키 순서로 적용
+        List<Object[]> rows = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(StatKey::dimension).thenComparing(StatKey::key)))
+                .map(entry -> new Object[]{projectId, entry.getKey().dimension().name(), entry.getKey().key(), entry.getValue()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, rows);
+    }
+
+    public void deleteProjectStats(Long projectId) {
+        statRepository.deleteByProjectId(projectId);
+    }
+
+    // 권한 확인은 호출하는 쪽(ProjectService)에서
+    @Transactional(readOnly = true)
+    public ProjectStatsResponse getStats(Project project) {
+        Long projectId = project.getId();
+        Map<Status, Long> statusCounts = new EnumMap<>(Status.class);
+        statusCounts.put(Status.TODO, (long) project.getTodoCount());
+        statusCounts.put(Status.IN_PROGRESS, (long) project.getInProgressCount());
+        statusCounts.put(Status.DONE, (long) project.getDoneCount());
+
+        Map<TaskPriority, Long> priorityCounts = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            priorityCounts.put(priority, 0L);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
+        long overdue = 0;
+        long dueThisWeek = 0;
+        long openUnassigned = 0;
+        Map<Long, Long> openByAssignee = new HashMap<>();
+
+        // 증감 중 어긋나 음수가 된 값은 다음 검사 전까지 0으로 취급
+        for (ProjectTaskStat stat : statRepository.findByProjectId(projectId)) {
+            long count = Math.max(stat.getTaskCount(), 0);
+            if (count == 0) {
+                continue;
+            }
+            switch (stat.getDimension()) {
+                case PRIORITY -> priorityCounts.computeIfPresent(TaskPriority.valueOf(stat.getStatKey()), (key, value) -> value + count);
+                case OPEN_DUE -> {
+                    LocalDate dueDate = parseDate(stat.getStatKey());
+                    if (dueDate == null) {
+                        continue;
+                    }
+                    if (dueDate.isBefore(today)) {
+                        overdue += count;
+                    } else if (!dueDate.isAfter(endOfWeek)) {
+                        dueThisWeek += count;
+                    }
+                }
+                case OPEN_ASSIGNEE -> {
+                    if (ProjectTaskStat.NONE_KEY.equals(stat.getStatKey())) {
+                        openUnassigned += count;
+                    } else {
+                        openByAssignee.merge(Long.valueOf(stat.getStatKey()), count, Long::sum);
+                    }
+                }
+            }
+        }
+
+        Map<Long, String> names = openByAssignee.isEmpty() ? Collections.<Long, String>emptyMap() : userRepository.findNamesByIdIn(openByAssignee.keySet()).stream()
+                .collect(Collectors.toMap(UserRepository.NameView::getId, UserRepository.NameView::getName));
+        List<ProjectStatsResponse.MemberOpenTasks> openByMember = openByAssignee.entrySet().stream()
+                .map(entry -> new ProjectStatsResponse.MemberOpenTasks(entry.getKey(), names.get(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingLong(ProjectStatsResponse.MemberOpenTasks::getOpenTasks).reversed())
+                .toList();
+
+        return new ProjectStatsResponse(projectId, statusCounts, priorityCounts, overdue, dueThisWeek, openUnassigned, openByMember, today);
+    }
+
+    // 집계 값 검사: ID 구간 프로젝트의 원본 집계와 저장된 값을 비교해 다른 키만 고치고, 0이 된 행은 정리
+    // 저장된 행(과 구간의 빈 키)을 먼저 잠가 그동안 증감하려는 업무 쓰기를 기다리게 하고, 원본은 잠근 뒤에 읽음
+    // (이미 증감한 쓰기는 커밋된 뒤에 원본에 포함되고, 아직 증감하지 않은 쓰기는 고친 값 위에 증감함)
+    // 고친 키 수 반환
+    public int reconcile(long fromId, long toId) {
+        Map<Long, Map<StatKey, Integer>> stored = new TreeMap<>();
+        jdbcTemplate.query("SELECT project_id, dimension, stat_key, task_count FROM project_task_stat " +
+                        "WHERE project_id BETWEEN ? AND ? FOR UPDATE",
+                rs -> {
+                    stored.computeIfAbsent(rs.getLong("project_id"), id -> new HashMap<>())
+                            .put(new StatKey(ProjectTaskStatDimension.valueOf(rs.getString("dimension")), rs.getString("stat_key")),
+                                    rs.getInt("task_count"));
+                }, fromId, toId);
+
+        Map<Long, Map<StatKey, Integer>> actual = new TreeMap<>();
+        jdbcTemplate.query(ACTUAL_STATS_SQL, rs -> {
+            actual.computeIfAbsent(rs.getLong("project_id"), id -> new HashMap<>())
+                    .put(new StatKey(ProjectTaskStatDimension.valueOf(rs.getString("dimension")), rs.getString("stat_key")),
+                            rs.getInt("task_count"));
+        }, fromId, toId, fromId, toId, fromId, toId);
+
+        List<Object[]> fixes = new ArrayList<>();
+        List<Object[]> removals = new ArrayList<>();
+        int repaired = 0;
+        Set<Long> projectIds = new HashSet<>(actual.keySet());
+        projectIds.addAll(stored.keySet());
+        for (Long projectId : projectIds) {
+            Map<StatKey, Integer> expected = actual.getOrDefault(projectId, Map.of());
+            Map<StatKey, Integer> current = stored.getOrDefault(projectId, Map.of());
+            for (Map.Entry<StatKey, Integer> entry : expected.entrySet()) {
+                if (!entry.getValue().equals(current.get(entry.getKey()))) {
+                    fixes.add(new Object[]{projectId, entry.getKey().dimension().name(), entry.getKey().key(), entry.getValue()});
+                    repaired++;
+                }
+            }
+            for (Map.Entry<StatKey, Integer> entry : current.entrySet()) {
+                if (!expected.containsKey(entry.getKey())) {
+                    removals.add(new Object[]{projectId, entry.getKey().dimension().name(), entry.getKey().key()});
+                    if (entry.getValue() != 0) {
+                        repaired++;
+                    }
+                }
+            }
+        }
+        if (!fixes.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_VALUE_SQL, fixes);
+        }
+        if (!removals.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM project_task_stat WHERE project_id = ? AND dimension = ? AND stat_key = ?", removals);
+        }
+        if (repaired > 0) {
+            logger.debug("프로젝트 통계 보정 | 프로젝트 ID {} ~ {}, 키 {}개", fromId, toId, repaired);
+        }
+        return repaired;
+    }
+
+    private static void addKeys(Map<StatKey, Integer> deltas, TaskState state, int delta) {
+        Function<Object, String> keyOf = value -> value != null ? value.toString() : ProjectTaskStat.NONE_KEY;
+        deltas.merge(new StatKey(ProjectTaskStatDimension.PRIORITY, state.priority().name()), delta, Integer::sum);
+        if (state.status() != Status.DONE) {
+            deltas.merge(new StatKey(ProjectTaskStatDimension.OPEN_DUE, keyOf.apply(state.dueDate())), delta, Integer::sum);
+            deltas.merge(new StatKey(ProjectTaskStatDimension.OPEN_ASSIGNEE, keyOf.apply(state.assigneeId())), delta, Integer::sum);
+        }
+    }
+
+    private static LocalDate parseDate(String key) {
+        if (ProjectTaskStat.NONE_KEY.equals(key)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
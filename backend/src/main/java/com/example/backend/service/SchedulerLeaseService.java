@@ -0,0 +1,148 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+// 여러 서버에서 같은 예약 작업이 중복 실행되지 않도록 DB 임대로 실행 서버를 정함
+@Service
+public class SchedulerLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeaseService.class);
+    public static final String CLAIM_PREFIX = "claim:";
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final String nodeId;
+    private final long ttlMs;
+
+    @Value("${scheduler.lease.claim-retention-days:7}")
+    private int claimRetentionDays;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository,
+                                 @Value("${scheduler.node-id:}") String nodeId,
+                                 @Value("${scheduler.lease.ttl-ms:600000}") long ttlMs) {
+        this.leaseRepository = leaseRepository;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttlMs = ttlMs;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 해당 회차를 이 서버가 실행할 수 있으면 true (성공하면 임대를 가진 상태)
+    public boolean tryAcquire(String leaseName, String runKey) {
+        leaseRepository.insertIfAbsent(leaseName);
+        return leaseRepository.tryAcquire(leaseName, nodeId, runKey, ttlMs) == 1;
+    }
+
+    // 오래 걸리는 작업은 청크 사이에 호출해 임대를 연장 (다른 서버가 이미 가져갔으면 false)
+    public boolean renew(String leaseName) {
+        return leaseRepository.renew(leaseName, nodeId, ttlMs) == 1;
+    }
+
+    // 일회성 작업(예: 알림 한 건) 선점: 같은 이름/회차는 한 서버만 true
+    // 처리에 성공하면 completeClaim, 실패하면 releaseClaim 으로 풀어 다시 선점할 수 있게 함 (풀지 못하고 죽으면 만료 후 다시 선점 가능)
+    public boolean tryClaim(String name, String runKey) {
+        return tryAcquire(CLAIM_PREFIX + name, runKey);
+    }
+
+    public void completeClaim(String name) {
+        leaseRepository.release(CLAIM_PREFIX + name, nodeId, true);
+    }
+
+    public void releaseClaim(String name) {
+        leaseRepository.release(CLAIM_PREFIX + name, nodeId, false);
+    }
+
+    // 회차마다 따로 두는 임대 이름: 작업 이름 하나를 회차끼리 같이 쓰면 뒤 회차가 앞 회차의 완료 기록을 덮어써
+    // 끝나지 않은 앞 회차를 나중에 다시 시도하거나 완료 여부를 확인할 수 없음 (오래된 행은 일회성 임대와 함께 정리)
+    public static String runLeaseName(String jobName, String runKey) {
+        return CLAIM_PREFIX + jobName + "@" + runKey;
+    }
+
+    // 해당 회차를 어느 서버든 끝냈으면 true
+    public boolean isCompleted(String leaseName, String runKey) {
+        return leaseRepository.findById(leaseName)
+                .filter(lease -> lease.isCompleted() && runKey.equals(lease.getRunKey()))
+                .isPresent();
+    }
+
+    public boolean isShardedCompleted(String jobName, String runKey, int shardCount) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!isCompleted(shardLeaseName(jobName, shard), runKey)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean runExclusive(String jobName, String runKey, Runnable job) {
+        if (!tryAcquire(jobName, runKey)) {
+            logger.debug("다른 서버가 실행 중이거나 이미 실행한 작업 | 작업: {}, 회차: {}", jobName, runKey);
+            return false;
+        }
+        boolean completed = false;
+        try {
+            job.run();
+            completed = true;
+        } finally {
+            // 실패하면 완료 처리하지 않고 임대만 풀어 다른 서버(또는 다음 실행)가 이어받게 함
+            leaseRepository.release(jobName, nodeId, completed);
+        }
+        return true;
+    }
+
+    // 한 작업을 여러 샤드로 나눠 서버마다 비어 있는 샤드를 가져가 처리 (서버 수만큼 병렬 처리)
+    // 서버마다 시작 샤드를 다르게 해서 처음부터 서로 다른 샤드를 잡도록 함
+    public int runSharded(String jobName, String runKey, int shardCount, IntConsumer shardJob) {
+        int start = Math.floorMod(nodeId.hashCode(), shardCount);
+        int processed = 0;
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (start + i) % shardCount;
+            if (runExclusive(shardLeaseName(jobName, shard), runKey, () -> shardJob.accept(shard))) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    public static String shardLeaseName(String jobName, int shard) {
+        return jobName + "#" + shard;
+    }
+
+    public static boolean inShard(Long userId, int shard, int shardCount) {
+        return Math.floorMod(userId, shardCount) == shard;
+    }
+
+    @Scheduled(cron = "${scheduler.lease.cleanup-cron:0 50 3 * * *}")
+    public void purgeOldClaims() {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = leaseRepository.deleteCompletedBefore(CLAIM_PREFIX + "%", claimRetentionDays, CLEANUP_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+        if (total > 0) {
+            logger.info("지난 일회성 임대 정리 | {}건", total);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ArchivedTaskCursor;
+import com.example.backend.dto.ArchivedTaskPageResponse;
+import com.example.backend.dto.ArchivedTaskResponse;
+import com.example.backend.dto.TaskResponse;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.activitylog.ActivityLogParams;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.project.ProjectInvitationStatus;
+import com.example.backend.entity.task.ArchivedTask;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.task.TaskPriority;
+import com.example.backend.entity.user.User;
+import com.example.backend.repository.ArchivedTaskRepository;
+import com.example.backend.repository.ProjectMemberRepository;
+import com.example.backend.repository.ProjectRepository;
+import com.example.backend.repository.TaskRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 완료 업무 보관: 오래된 DONE 업무와 댓글을 task_archive/comment_archive 로 옮겨 task 테이블과 인덱스에는 진행 중인 업무만 남김
+// 보관된 업무는 프로젝트별로 검색하고 되돌릴 수 있음 (ID 는 그대로 유지)
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+    private static final String TASK_COLUMNS = "id, project_id, title, description, due_date, status, priority, assignee_id, " +
+            "created_at, updated_at, completed_at, comment_count";
+    private static final String COMMENT_COLUMNS = "id, content, user_id, task_id, created_at";
+    // 완료 시각(예전 업무는 수정 시각)과 최근 활동 시각이 모두 기준보다 이른 DONE 업무 (삭제 표시된 프로젝트의 업무는 삭제 작업이 지우므로 제외)
+    // 정렬 없이 (status, completed_at) 인덱스 순서로 읽어 청크마다 앞쪽만 보고, 다른 요청이 잡은 행은 건너뜀 (업무 행만 잠가 프로젝트 집계 갱신을 막지 않음)
+    private static final String ARCHIVE_CANDIDATES_SQL =
+            "SELECT t.id, t.project_id, t.priority, t.assignee_id, t.due_date, t.completed_at FROM task t " +
+                    "JOIN project p ON p.id = t.project_id AND p.deleted_at IS NULL " +
+                    "WHERE t.status = 'DONE' AND (t.completed_at < ? OR (t.completed_at IS NULL AND t.updated_at < ?)) " +
+                    "AND (t.last_activity_at IS NULL OR t.last_activity_at < ?) " +
+                    "LIMIT ? FOR UPDATE OF t SKIP LOCKED";
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
+    private final ProjectMemberService projectMemberService;
+    private final ActivityLogService activityLogService;
+    private final SseService sseService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Candidate(Long id, Long projectId, TaskState state) {
+    }
+
+    // 기준 시각 이전에 끝난 업무 한 청크를 보관으로 옮김 (옮긴 업무 수 반환, 없으면 0)
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        List<Candidate> candidates = jdbcTemplate.query(ARCHIVE_CANDIDATES_SQL, (rs, rowNum) -> {
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            Long assigneeId = rs.getObject("assignee_id", Long.class);
+            return new Candidate(rs.getLong("id"), rs.getLong("project_id"), new TaskState(Status.DONE,
+                    TaskPriority.valueOf(rs.getString("priority")), assigneeId,
+                    rs.getDate("due_date") != null ? rs.getDate("due_date").toLocalDate() : null,
+                    completedAt != null ? completedAt.toLocalDateTime() : null));
+        }, before, before, before, chunkSize);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Object[] ids = candidates.stream().map(Candidate::id).toArray();
+        String placeholders = String.join(",", Collections.nCopies(ids.length, "?"));
+
+        List<Object> archiveParams = new ArrayList<>();
+        archiveParams.add(Timestamp.valueOf(LocalDateTime.now()));
+        Collections.addAll(archiveParams, ids);
+        jdbcTemplate.update("INSERT INTO task_archive (" + TASK_COLUMNS + ", last_activity_at, archived_at) " +
+                "SELECT " + TASK_COLUMNS + ", last_activity_at, ? FROM task WHERE id IN (" + placeholders + ")", archiveParams.toArray());
+        jdbcTemplate.update("INSERT INTO comment_archive (" + COMMENT_COLUMNS + ") " +
+                "SELECT " + COMMENT_COLUMNS + " FROM comment WHERE task_id IN (" + placeholders + ")", ids);
+        jdbcTemplate.update("DELETE FROM comment WHERE task_id IN (" + placeholders + ")", ids);
+        jdbcTemplate.update("DELETE FROM task WHERE id IN (" + placeholders + ")", ids);
+
+        // 프로젝트별로 완료 수 -> 보관 수, 통계의 우선순위 수를 한 번씩 반영 (잠금 순서를 맞추려고 프로젝트 ID 순)
+        Map<Long, List<TaskState>> byProject = new TreeMap<>();
+        for (Candidate candidate : candidates) {
+            byProject.computeIfAbsent(candidate.projectId(), id -> new ArrayList<>()).add(candidate.state());
+        }
+        byProject.forEach((projectId, states) -> {
+            projectService.applyTaskArchiveDelta(projectId, states.size());
+            projectStatsService.applyChanges(projectId, states, List.of());
+        });
+        userWorkloadService.applyChanges(candidates.stream().map(Candidate::state).toList(), List.of());
+        return candidates.size();
+    }
+
+    // 보관된 업무 검색: 제목/설명 부분 일치, 최근 보관 순, 커서 기반 페이지
+    @Transactional(readOnly = true)
+    public ArchivedTaskPageResponse search(Long projectId, String query, ArchivedTaskCursor cursor, int limit, User currentUser) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
+
+        projectMemberService.ensureUserCanReadProject(project, currentUser);
+
+        if (limit < 1 || limit > TaskService.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + TaskService.MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        String pattern = query == null || query.isBlank() ? "%" : "%" + escapeLike(query.trim().toLowerCase()) + "%";
+        // 한 건 더 읽어 다음 페이지 유무를 판단
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ArchivedTaskResponse> tasks = cursor == null
+                ? archivedTaskRepository.search(projectId, pattern, page)
+                : archivedTaskRepository.searchAfter(projectId, pattern, cursor.getArchivedAt(), cursor.getId(), page);
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = ArchivedTaskCursor.of(tasks.get(limit - 1)).toString();
+        }
+        return new ArchivedTaskPageResponse(tasks, nextCursor);
+    }
+
+    // 보관된 업무를 댓글과 함께 task 로 되돌림 (DONE 그대로, 최근 활동 시각을 지금으로 해서 다음 보관 대상에서 한동안 빠짐)
+    // 담당자가 그사이 프로젝트를 떠났으면 담당자 없이 되돌림
+    public TaskResponse restore(Long projectId, Long taskId, User currentUser) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
+
+        projectMemberService.ensureUserCanModifyTasksInProject(project, currentUser);
+
+        ArchivedTask archived = archivedTaskRepository.findByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new EntityNotFoundException("보관된 업무를 찾을 수 없습니다: ID " + taskId));
+        Long assigneeId = archived.getAssigneeId();
+        if (assigneeId != null && projectMemberRepository.findByProjectIdAndUserId(projectId, assigneeId)
+                .filter(member -> member.getInvitationStatus() == ProjectInvitationStatus.ACCEPTED)
+                .isEmpty()) {
+            assigneeId = null;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO task (" + TASK_COLUMNS + ", last_activity_at) " +
+                "SELECT id, project_id, title, description, due_date, status, priority, ?, " +
+                "created_at, updated_at, completed_at, comment_count, ? FROM task_archive WHERE id = ?", assigneeId, now, taskId);
+        jdbcTemplate.update("INSERT INTO comment (" + COMMENT_COLUMNS + ") " +
+                "SELECT " + COMMENT_COLUMNS + " FROM comment_archive WHERE task_id = ?", taskId);
+        jdbcTemplate.update("DELETE FROM comment_archive WHERE task_id = ?", taskId);
+        jdbcTemplate.update("DELETE FROM task_archive WHERE id = ?", taskId);
+
+        TaskState state = new TaskState(archived.getStatus(), archived.getPriority(), assigneeId,
+                archived.getDueDate(), archived.getCompletedAt());
+        projectService.applyTaskArchiveDelta(projectId, -1);
+        projectStatsService.applyChange(projectId, null, state);
+        userWorkloadService.applyChange(null, state);
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("되돌린 업무를 찾을 수 없습니다: ID " + taskId));
+        activityLogService.createLog(project, currentUser, ActivityLogType.TASK_RESTORED, ActivityLogParams.task(task));
+        sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
+        logger.info("보관된 업무 되돌림 | ID: {}, 프로젝트 ID: {}, 요청자: {}", taskId, projectId, currentUser.getEmail());
+        return new TaskResponse(task);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.BulkTaskRequest;
+import com.example.backend.dto.BulkTaskResponse;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.activitylog.ActivityLogParams;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import com.example.backend.entity.notification.Notification;
+import com.example.backend.entity.notification.NotificationType;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.task.TaskPriority;
+import com.example.backend.entity.user.User;
+import com.example.backend.repository.CommentRepository;
+import com.example.backend.repository.ProjectRepository;
+import com.example.backend.repository.TaskRepository;
+import com.example.backend.repository.TaskRepository.StateView;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.scheduler.DueReminderWheel;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 업무 일괄 작업: 권한 확인 한 번, 값이 바뀌는 업무만 UPDATE 한 문장, 요약 활동 로그 한 건,
+// 받는 사람별 알림 한 건, 프로젝트 상태별 업무 수 갱신 한 번, SSE 전송 한 번
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBulkService.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
+    private final ProjectMemberService projectMemberService;
+    private final ActivityLogService activityLogService;
+    private final NotificationService notificationService;
+    private final SseService sseService;
+    private final DueReminderWheel dueReminderWheel;
+
+    @Value("${frontend.base-url}")
+    private String frontendBaseUrl;
+
+    public BulkTaskResponse apply(Long projectId, BulkTaskRequest request, User currentUser) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
+
+        projectMemberService.ensureUserCanModifyTasksInProject(project, currentUser);
+
+        Set<Long> ids = new LinkedHashSet<>(request.getTaskIds());
+        List<StateView> tasks = taskRepository.findStatesByProjectIdAndIdIn(projectId, ids);
+        if (tasks.size() != ids.size()) {
+            Set<Long> found = tasks.stream().map(StateView::getId).collect(Collectors.toSet());
+            ids.removeAll(found);
+            throw new EntityNotFoundException("프로젝트에서 찾을 수 없는 업무가 포함되어 있습니다: ID " + ids);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int changed = switch (request.getOperation()) {
+            case SET_STATUS -> setStatus(project, tasks, required(request.getStatus(), "status"), currentUser, now);
+            case SET_ASSIGNEE -> setAssignee(project, tasks, request.getAssigneeId(), currentUser, now);
+            case SET_PRIORITY -> setPriority(project, tasks, required(request.getPriority(), "priority"), currentUser, now);
+            case SET_DUE_DATE -> setDueDate(project, tasks, request.getDueDate(), currentUser, now);
+            case DELETE -> delete(project, tasks, currentUser);
+        };
+
+        if (changed > 0) {
+            sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
+        }
+        logger.info("업무 일괄 작업 완료 | 프로젝트 ID: {}, 작업: {}, 요청 {}건, 변경 {}건, 요청자: {}",
+                projectId, request.getOperation(), ids.size(), changed, currentUser.getEmail());
+        return new BulkTaskResponse(request.getOperation(), ids.size(), changed);
+    }
+
+    private int setStatus(Project project, List<StateView> tasks, Status status, User actor, LocalDateTime now) {
+        List<StateView> targets = tasks.stream().filter(task -> task.getStatus() != status).toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        // 대상은 모두 상태가 바뀌는 업무이므로 DONE 이면 지금 완료, 아니면 완료 시각을 지움
+        LocalDateTime completedAt = status == Status.DONE ? now : null;
+        taskRepository.updateStatusByIdIn(idsOf(targets), status, completedAt, now);
+
+        Map<Status, Integer> deltas = new EnumMap<>(Status.class);
+        for (StateView task : targets) {
+            deltas.merge(task.getStatus(), -1, Integer::sum);
+            deltas.merge(status, 1, Integer::sum);
+            dueReminderWheel.schedule(task.getId(), task.getAssigneeId() != null, status, task.getDueDate());
+        }
+        projectService.applyTaskStatusDeltas(project.getId(), deltas);
+        applyAggregates(project, targets, task -> new TaskState(status, task.getPriority(), task.getAssigneeId(), task.getDueDate(), completedAt));
+
+        activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_UPDATED,
+                ActivityLogParams.bulk(targets.size(), "STATUS", status));
+        notifyAssignees(project, targets, actor, count -> String.format(
+                "<strong>%s</strong>님이 당신의 업무 %d개의 상태를 <strong>%s</strong>(으)로 변경했습니다.", actor.getName(), count, status));
+        return targets.size();
+    }
+
+    private int setAssignee(Project project, List<StateView> tasks, Long assigneeId, User actor, LocalDateTime now) {
+        User assignee = null;
+        if (assigneeId != null && assigneeId != 0L) {
+            assignee = userRepository.findById(assigneeId)
+                    .orElseThrow(() -> new EntityNotFoundException("담당자로 지정할 사용자를 찾을 수 없습니다: ID " + assigneeId));
+        }
+        Long newAssigneeId = assignee != null ? assignee.getId() : null;
+        List<StateView> targets = tasks.stream().filter(task -> !Objects.equals(task.getAssigneeId(), newAssigneeId)).toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        if (assignee != null) {
+            taskRepository.updateAssigneeByIdIn(idsOf(targets), assignee, now);
+        } else {
+            taskRepository.clearAssigneeByIdIn(idsOf(targets), now);
+        }
+        for (StateView task : targets) {
+            dueReminderWheel.schedule(task.getId(), assignee != null, task.getStatus(), task.getDueDate());
+        }
+        applyAggregates(project, targets, task -> new TaskState(task.getStatus(), task.getPriority(), newAssigneeId, task.getDueDate(), task.getCompletedAt()));
+
+        if (assignee == null) {
+            activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_UNASSIGNED, ActivityLogParams.bulkAssign(targets.size(), null));
+            return targets.size();
+        }
+        activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_ASSIGNED, ActivityLogParams.bulkAssign(targets.size(), assignee));
+        if (!assignee.getId().equals(actor.getId())) {
+            String message = String.format("<strong>%s</strong>님이 당신에게 업무 %d개를 할당했습니다.", actor.getName(), targets.size());
+            notificationService.createAndSendNotifications(List.of(
+                    notification(assignee, actor, NotificationType.TASK_ASSIGNED, message, project, targets.get(0))));
+        }
+        return targets.size();
+    }
+
+    private int setPriority(Project project, List<StateView> tasks, TaskPriority priority, User actor, LocalDateTime now) {
+        List<StateView> targets = tasks.stream().filter(task -> task.getPriority() != priority).toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        taskRepository.updatePriorityByIdIn(idsOf(targets), priority, now);
+        applyAggregates(project, targets, task -> new TaskState(task.getStatus(), priority, task.getAssigneeId(), task.getDueDate(), task.getCompletedAt()));
+
+        activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_UPDATED,
+                ActivityLogParams.bulk(targets.size(), "PRIORITY", priority));
+        notifyAssignees(project, targets, actor, count -> String.format(
+                "<strong>%s</strong>님이 당신의 업무 %d개의 우선순위를 <strong>%s</strong>(으)로 변경했습니다.", actor.getName(), count, priority));
+        return targets.size();
+    }
+
+    private int setDueDate(Project project, List<StateView> tasks, LocalDate dueDate, User actor, LocalDateTime now) {
+        List<StateView> targets = tasks.stream().filter(task -> !Objects.equals(task.getDueDate(), dueDate)).toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        taskRepository.updateDueDateByIdIn(idsOf(targets), dueDate, now);
+        for (StateView task : targets) {
+            dueReminderWheel.schedule(task.getId(), task.getAssigneeId() != null, task.getStatus(), dueDate);
+        }
+        applyAggregates(project, targets, task -> new TaskState(task.getStatus(), task.getPriority(), task.getAssigneeId(), dueDate, task.getCompletedAt()));
+
+        String shown = dueDate != null ? dueDate.toString() : "-";
+        activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_UPDATED,
+                ActivityLogParams.bulk(targets.size(), "DUE_DATE", shown));
+        notifyAssignees(project, targets, actor, count -> String.format(
+                "<strong>%s</strong>님이 당신의 업무 %d개의 마감일을 <strong>%s</strong>(으)로 변경했습니다.", actor.getName(), count, shown));
+        return targets.size();
+    }
+
+    private int delete(Project project, List<StateView> tasks, User actor) {
+        List<Long> ids = idsOf(tasks);
+        commentRepository.deleteByTaskIdIn(ids);
+        taskRepository.deleteByIdIn(ids);
+
+        Map<Status, Integer> deltas = new EnumMap<>(Status.class);
+        for (StateView task : tasks) {
+            deltas.merge(task.getStatus(), -1, Integer::sum);
+            dueReminderWheel.cancel(task.getId());
+        }
+        projectService.applyTaskStatusDeltas(project.getId(), deltas);
+        applyAggregates(project, tasks, task -> null);
+
+        activityLogService.createLog(project, actor, ActivityLogType.TASKS_BULK_DELETED, ActivityLogParams.bulk(tasks.size(), null, null));
+        return tasks.size();
+    }
+
+    // 담당자별로 바뀐 업무 수를 세어 한 사람에게 알림 한 건 (본인이 바꾼 업무는 제외)
+    private void notifyAssignees(Project project, List<StateView> targets, User actor, Function<Integer, String> message) {
+        Map<Long, List<StateView>> byAssignee = new LinkedHashMap<>();
+        for (StateView task : targets) {
+            if (task.getAssigneeId() != null && !task.getAssigneeId().equals(actor.getId())) {
+                byAssignee.computeIfAbsent(task.getAssigneeId(), id -> new ArrayList<>()).add(task);
+            }
+        }
+        if (byAssignee.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications = new ArrayList<>();
+        for (User recipient : userRepository.findAllById(byAssignee.keySet())) {
+            List<StateView> owned = byAssignee.get(recipient.getId());
+            notifications.add(notification(recipient, actor, NotificationType.TASK_UPDATED, message.apply(owned.size()), project, owned.get(0)));
+        }
+        notificationService.createAndSendNotifications(notifications);
+    }
+
+    // 링크는 묶인 업무 중 첫 업무 (프로젝트 화면이 함께 열림)
+    private Notification notification(User recipient, User actor, NotificationType type, String message, Project project, StateView task) {
+        return Notification.builder()
+                .user(recipient)
+                .actor(actor)
+                .type(type)
+                .message(message)
+                .link(String.format(frontendBaseUrl + "/dashboard/project/%d?taskId=%d", project.getId(), task.getId()))
+                .build();
+    }
+
+    // 변경 전/후 값을 프로젝트 통계와 담당자 업무량에 반영 (after 가 null 을 주면 삭제)
+    private void applyAggregates(Project project, List<StateView> targets, Function<StateView, TaskState> after) {
+        List<TaskState> before = targets.stream().map(TaskBulkService::stateOf).toList();
+        List<TaskState> changed = targets.stream().map(after).filter(Objects::nonNull).toList();
+        projectStatsService.applyChanges(project.getId(), before, changed);
+        userWorkloadService.applyChanges(before, changed);
+    }
+
+    private static TaskState stateOf(StateView task) {
+        return new TaskState(task.getStatus(), task.getPriority(), task.getAssigneeId(), task.getDueDate(), task.getCompletedAt());
+    }
+
+    private static List<Long> idsOf(List<StateView> tasks) {
+        return tasks.stream().map(StateView::getId).toList();
+    }
+
+    private static <T> T required(T value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " 값이 필요합니다.");
+        }
+        return value;
+    }
+}
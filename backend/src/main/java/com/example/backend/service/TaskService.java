@@ -1,8 +1,17 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.BoardColumnResponse;
+import com.example.backend.dto.BoardResponse;
+import com.example.backend.dto.MyTaskPageResponse;
+import com.example.backend.dto.MyTaskResponse;
+import com.example.backend.dto.TaskCursor;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskPageResponse;
 import com.example.backend.dto.TaskRequest;
 import com.example.backend.dto.TaskResponse;
+import com.example.backend.dto.TaskSort;
 import com.example.backend.entity.*;
+import com.example.backend.entity.activitylog.ActivityLogParams;
 import com.example.backend.entity.activitylog.ActivityLogType;
 import com.example.backend.entity.notification.NotificationType;
 import com.example.backend.entity.project.Project;
@@ -12,6 +21,7 @@ import com.example.backend.entity.user.User;
 import com.example.backend.repository.ProjectRepository;
 import com.example.backend.repository.TaskRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.scheduler.DueReminderWheel;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.cache.spi.support.CacheUtils;
@@ -20,9 +30,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -30,14 +44,18 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+    public static final int MAX_PAGE_SIZE = 200;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final UserWorkloadService userWorkloadService;
     private final ProjectMemberService projectMemberService;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
     private final SseService sseService;
+    private final DueReminderWheel dueReminderWheel;
 
     @Value("${frontend.base-url}")
     private String frontendBaseUrl;
@@ -59,8 +77,9 @@ public class TaskService {
         task.setDescription(taskRequest.getDescription());
         task.setDueDate(taskRequest.getDueDate());
 
-        task.setStatus(taskRequest.getStatus() != null ? taskRequest.getStatus() : Status.TODO);
+        changeStatus(task, taskRequest.getStatus() != null ? taskRequest.getStatus() : Status.TODO);
         task.setPriority(taskRequest.getPriority() != null ? taskRequest.getPriority() : TaskPriority.MEDIUM);
+        task.setLastActivityAt(LocalDateTime.now());
 
         User assignee = null;
         if (taskRequest.getAssigneeId() != null) {
@@ -70,33 +89,124 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        dueReminderWheel.schedule(savedTask);
         logger.info("업무 생성 성공 | ID: {}, 제목: '{}', 생성자: {}", savedTask.getId(), savedTask.getTitle(), currentUser.getEmail());
 
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무를 생성했습니다.", currentUser.getName(), savedTask.getTitle());
-        activityLogService.createLog(project, currentUser, message, ActivityLogType.TASK_CREATED);
+        activityLogService.createLog(project, currentUser, ActivityLogType.TASK_CREATED, ActivityLogParams.task(savedTask));
 
         if (assignee != null && !assignee.getId().equals(currentUser.getId())) {
-            message = String.format("<strong>%s</strong>님이 당신에게 새로운 업무 <strong>'%s'</strong>를 할당했습니다.", currentUser.getName(), savedTask.getTitle());
+            String message = String.format("<strong>%s</strong>님이 당신에게 새로운 업무 <strong>'%s'</strong>를 할당했습니다.", currentUser.getName(), savedTask.getTitle());
             String link = createLinkToTask(projectId, savedTask.getId());
             notificationService.createAndSendNotification(assignee, NotificationType.TASK_ASSIGNED, message, link, currentUser);
         }
 
-        projectService.updateProjectStatus(projectId);
+        projectService.applyTaskStatusChange(projectId, null, savedTask.getStatus());
+        applyAggregates(projectId, null, TaskState.of(savedTask));
         sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
         return new TaskResponse(savedTask);
     }
 
-    // 특정 프로젝트의 모든 업무 조회
+    // 특정 프로젝트의 업무 목록 조회 (필터, 정렬, 커서 기반 페이지, 한 번에 최대 MAX_PAGE_SIZE건)
+    // 전체/상태별 건수는 첫 페이지에서만 계산: 조건이 없으면 프로젝트의 상태별 업무 수를 그대로 사용
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProjectId(Long projectId, User currentUser) {
+    public TaskPageResponse getTasksByProjectId(Long projectId, TaskFilter filter, User currentUser) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
 
         projectMemberService.ensureUserCanReadProject(project, currentUser);
 
-        return taskRepository.findByProjectIdOrderByCreatedAtDesc(projectId).stream()
-                .map(TaskResponse::new)
-                .collect(Collectors.toList());
+        if (filter.getLimit() < 1 || filter.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        List<TaskResponse> tasks = taskRepository.findPage(projectId, filter);
+        String nextCursor = null;
+        if (tasks.size() > filter.getLimit()) {
+            tasks = tasks.subList(0, filter.getLimit());
+            nextCursor = TaskCursor.of(tasks.get(tasks.size() - 1), filter.getSort()).toString();
+        }
+
+        Map<Status, Long> statusCounts = null;
+        Long total = null;
+        if (filter.getCursor() == null) {
+            statusCounts = filter.isUnfiltered() ? statusCountsOf(project) : taskRepository.countByStatus(projectId, filter);
+            total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return new TaskPageResponse(tasks, nextCursor, total, statusCounts);
+    }
+
+    // 내 업무: 수락한 모든 프로젝트에서 나에게 할당된 업무를 마감일 순으로 (마감일 없는 업무는 맨 뒤)
+    @Transactional(readOnly = true)
+    public MyTaskPageResponse getMyTasks(TaskFilter filter, User currentUser) {
+        if (filter.getLimit() < 1 || filter.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        List<MyTaskResponse> tasks = taskRepository.findAssignedPage(currentUser.getId(), filter);
+        String nextCursor = null;
+        if (tasks.size() > filter.getLimit()) {
+            tasks = tasks.subList(0, filter.getLimit());
+            MyTaskResponse last = tasks.get(tasks.size() - 1);
+            nextCursor = new TaskCursor(Arrays.asList(last.getDueDate()), last.getId()).toString();
+        }
+        return new MyTaskPageResponse(tasks, nextCursor);
+    }
+
+    // 칸반 보드 첫 화면: 상태 열마다 전체 수와 앞의 perColumn 건 (업무 수와 관계없이 한 문장)
+    @Transactional(readOnly = true)
+    public BoardResponse getBoard(Long projectId, int perColumn, User currentUser) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
+
+        projectMemberService.ensureUserCanReadProject(project, currentUser);
+
+        if (perColumn < 1 || perColumn > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        // 열마다 한 건 더 읽어 다음 페이지 유무를 판단
+        Map<Status, List<TaskResponse>> heads = new EnumMap<>(Status.class);
+        for (TaskResponse task : taskRepository.findBoardHeads(projectId, perColumn + 1)) {
+            heads.computeIfAbsent(task.getStatus(), status -> new ArrayList<>()).add(task);
+        }
+        Map<Status, Long> counts = statusCountsOf(project);
+        List<BoardColumnResponse> columns = new ArrayList<>();
+        for (Status status : Status.values()) {
+            columns.add(boardColumn(status, counts.get(status), heads.getOrDefault(status, List.of()), perColumn));
+        }
+        return new BoardResponse(projectId, columns);
+    }
+
+    // 보드 열 하나의 다음 카드 (스크롤 시 커서로 이어서 조회)
+    @Transactional(readOnly = true)
+    public BoardColumnResponse getBoardColumn(Long projectId, Status status, TaskCursor cursor, int limit, User currentUser) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("프로젝트를 찾을 수 없습니다: ID " + projectId));
+
+        projectMemberService.ensureUserCanReadProject(project, currentUser);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(Set.of(status))
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+        return boardColumn(status, statusCountsOf(project).get(status), taskRepository.findPage(projectId, filter), limit);
+    }
+
+    private static BoardColumnResponse boardColumn(Status status, long count, List<TaskResponse> tasks, int limit) {
+        if (tasks.size() <= limit) {
+            return new BoardColumnResponse(status, count, tasks, null);
+        }
+        List<TaskResponse> page = tasks.subList(0, limit);
+        return new BoardColumnResponse(status, count, page, TaskCursor.of(page.get(limit - 1), TaskSort.DEFAULT).toString());
+    }
+
+    private static Map<Status, Long> statusCountsOf(Project project) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        counts.put(Status.TODO, (long) project.getTodoCount());
+        counts.put(Status.IN_PROGRESS, (long) project.getInProgressCount());
+        counts.put(Status.DONE, (long) project.getDoneCount());
+        return counts;
     }
 
     // 특정 업무 상세 조회
@@ -112,15 +222,17 @@ public class TaskService {
 
     // 업무 수정
     public TaskResponse updateTask(Long taskId, TaskRequest taskRequest, User currentUser) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findForUpdateById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("수정할 업무를 찾을 수 없습니다: ID " + taskId));
         User oldAssignee = task.getAssignee();
+        Status oldStatus = task.getStatus();
+        TaskState oldState = TaskState.of(task);
         projectMemberService.ensureUserCanModifyTasksInProject(task.getProject(), currentUser);
 
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         task.setDueDate(taskRequest.getDueDate());
-        task.setStatus(taskRequest.getStatus());
+        changeStatus(task, taskRequest.getStatus());
         task.setPriority(taskRequest.getPriority());
 
         User newAssignee = null;
@@ -133,10 +245,12 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
-        projectService.updateProjectStatus(updatedTask.getProject().getId());
+        taskRepository.touchActivity(updatedTask.getId(), LocalDateTime.now());
+        dueReminderWheel.schedule(updatedTask);
+        projectService.applyTaskStatusChange(updatedTask.getProject().getId(), oldStatus, updatedTask.getStatus());
+        applyAggregates(updatedTask.getProject().getId(), oldState, TaskState.of(updatedTask));
 
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무의 세부사항을 수정했습니다.", currentUser.getName(), updatedTask.getTitle());
-        activityLogService.createLog(task.getProject(), currentUser, message, ActivityLogType.TASK_UPDATED);
+        activityLogService.createLog(task.getProject(), currentUser, ActivityLogType.TASK_UPDATED, ActivityLogParams.task(updatedTask));
 
         boolean wasReassigned = (oldAssignee == null && newAssignee != null) ||
                 (oldAssignee != null && newAssignee == null) ||
@@ -144,13 +258,13 @@ public class TaskService {
 
         if (wasReassigned && newAssignee != null) {
             if (!newAssignee.getId().equals(currentUser.getId())) {
-                message = String.format("<strong>%s</strong>님이 당신에게 업무 <strong>'%s'</strong>를 할당했습니다.", currentUser.getName(), updatedTask.getTitle());
+                String message = String.format("<strong>%s</strong>님이 당신에게 업무 <strong>'%s'</strong>를 할당했습니다.", currentUser.getName(), updatedTask.getTitle());
                 String link = createLinkToTask(updatedTask.getProject().getId(), updatedTask.getId());
                 notificationService.createAndSendNotification(newAssignee, NotificationType.TASK_ASSIGNED, message, link, currentUser);
             }
         } else if (oldAssignee != null) {
             if (!oldAssignee.getId().equals(currentUser.getId())) {
-                message = String.format("<strong>%s</strong>님이 당신의 업무 <strong>'%s'</strong>를 수정했습니다.", currentUser.getName(), updatedTask.getTitle());
+                String message = String.format("<strong>%s</strong>님이 당신의 업무 <strong>'%s'</strong>를 수정했습니다.", currentUser.getName(), updatedTask.getTitle());
                 String link = createLinkToTask(updatedTask.getProject().getId(), updatedTask.getId());
                 notificationService.createAndSendNotification(oldAssignee, NotificationType.TASK_UPDATED, message, link, currentUser);
             }
@@ -163,31 +277,34 @@ public class TaskService {
     public void updateTaskStatus(Long taskId, Status newStatus, User currentUser) {
         logger.info("업무 상태 변경 시도 | 업무 ID: {}, 새 상태: {}, 요청자: {}", taskId, newStatus, currentUser.getEmail());
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findForUpdateById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("업무를 찾을 수 없습니다: ID " + taskId));
 
         projectMemberService.ensureUserCanModifyTasksInProject(task.getProject(), currentUser);
 
         Status oldStatus = task.getStatus();
+        TaskState oldState = TaskState.of(task);
 
         if (oldStatus == newStatus) {
             logger.info("상태가 동일하여 변경하지 않습니다.");
             return;
         }
 
-        task.setStatus(newStatus);
+        changeStatus(task, newStatus);
         taskRepository.save(task);
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무의 상태를 <span class=\"text-blue-500\">%s</span>에서 <span class=\"text-green-500\">%s</span>(으)로 변경했습니다.",
-                currentUser.getName(), task.getTitle(), oldStatus, newStatus);
-        activityLogService.createLog(task.getProject(), currentUser, message, ActivityLogType.TASK_STATUS_CHANGED);
+        taskRepository.touchActivity(taskId, LocalDateTime.now());
+        dueReminderWheel.schedule(task);
+        activityLogService.createLog(task.getProject(), currentUser, ActivityLogType.TASK_STATUS_CHANGED,
+                ActivityLogParams.statusChange(task, oldStatus, newStatus));
         logger.info("업무 상태 변경 완료 | 업무 ID: {}, '{}' -> '{}'", taskId, oldStatus, newStatus);
 
         sseService.broadcastToProjectMembers(task.getProject().getId(), "project-updated", Map.of("projectId", task.getProject().getId()));
-        projectService.updateProjectStatus(task.getProject().getId());
+        projectService.applyTaskStatusChange(task.getProject().getId(), oldStatus, newStatus);
+        applyAggregates(task.getProject().getId(), oldState, TaskState.of(task));
     }
     // 업무 삭제
     public void deleteTask(Long taskId, User currentUser) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findForUpdateById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("삭제할 업무를 찾을 수 없습니다: ID " + taskId));
 
         Long projectId = task.getProject().getId();
@@ -196,12 +313,29 @@ public class TaskService {
 
         taskRepository.delete(task);
         taskRepository.flush();
+        dueReminderWheel.cancel(taskId);
 
-        String message = String.format("<strong>%s</strong>님이 <strong>'%s'</strong> 업무를 삭제했습니다.", currentUser.getName(), task.getTitle());
-        activityLogService.createLog(task.getProject(), currentUser, message, ActivityLogType.TASK_DELETED);
+        activityLogService.createLog(task.getProject(), currentUser, ActivityLogType.TASK_DELETED, ActivityLogParams.task(task));
 
         logger.info("업무 삭제 성공 | ID: {}, 삭제자: {}", taskId, currentUser.getEmail());
         sseService.broadcastToProjectMembers(projectId, "project-updated", Map.of("projectId", projectId));
-        projectService.updateProjectStatus(projectId);
+        projectService.applyTaskStatusChange(projectId, task.getStatus(), null);
+        applyAggregates(projectId, TaskState.of(task), null);
+    }
+
+    // DONE 으로 바뀔 때 완료 시각을 남기고, DONE 에서 벗어나면 지움
+    private static void changeStatus(Task task, Status newStatus) {
+        if (newStatus == Status.DONE && task.getStatus() != Status.DONE) {
+            task.setCompletedAt(LocalDateTime.now());
+        } else if (newStatus != Status.DONE) {
+            task.setCompletedAt(null);
+        }
+        task.setStatus(newStatus);
+    }
+
+    // 업무 한 건의 변경을 프로젝트 통계와 담당자 업무량에 반영
+    private void applyAggregates(Long projectId, TaskState before, TaskState after) {
+        projectStatsService.applyChange(projectId, before, after);
+        userWorkloadService.applyChange(before, after);
     }
 }
\ No newline at end of file
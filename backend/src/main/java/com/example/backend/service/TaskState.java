@@ -0,0 +1,17 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Status;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.task.TaskPriority;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 집계(프로젝트 통계, 사용자 업무량)에 영향을 주는 업무 값만 모은 것 (생성 전/삭제 후는 null)
+public record TaskState(Status status, TaskPriority priority, Long assigneeId, LocalDate dueDate, LocalDateTime completedAt) {
+
+    public static TaskState of(Task task) {
+        return new TaskState(task.getStatus(), task.getPriority(),
+                task.getAssignee() != null ? task.getAssignee().getId() : null, task.getDueDate(), task.getCompletedAt());
+    }
+}
@@ -47,6 +47,7 @@ public class UserService implements UserDetailsService {
     private final StorageService storageService;
     private final UserSecurityRepository userSecurityRepository;
     private final NotificationSettingsRepository notificationSettingsRepository;
+    private final NotificationSettingsCache notificationSettingsCache;
 
     @Value("${frontend.reset-password.url}")
     private String resetPasswordUrlBase;
@@ -66,13 +67,15 @@ public class UserService implements UserDetailsService {
                        @Qualifier("emailServiceImpl") EmailService emailService,
                        StorageService storageService,
                        UserSecurityRepository userSecurityRepository,
-                       NotificationSettingsRepository notificationSettingsRepository) {
+                       NotificationSettingsRepository notificationSettingsRepository,
+                       NotificationSettingsCache notificationSettingsCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
         this.storageService = storageService;
         this.userSecurityRepository = userSecurityRepository;
         this.notificationSettingsRepository = notificationSettingsRepository;
+        this.notificationSettingsCache = notificationSettingsCache;
     }
 
 
@@ -104,6 +107,7 @@ public class UserService implements UserDetailsService {
         user.setNotificationSettings(notificationSettings);
 
         userRepository.save(user);
+        notificationSettingsCache.put(notificationSettings);
 
         logger.info("신규 사용자 등록 완료. 이메일 인증 대기 중 | 이메일: {}", user.getEmail());
 
@@ -348,8 +352,13 @@ public class UserService implements UserDetailsService {
         settings.setProjectInvitation(dto.isProjectInvitation());
         settings.setDailyDigest(dto.isDailyDigest());
         settings.setWeeklyDigest(dto.isWeeklyDigest());
+        if (dto.getDeliveryHour() != null && (dto.getDeliveryHour() < 0 || dto.getDeliveryHour() > 23)) {
+            throw new IllegalArgumentException("알림 수신 시각은 0시부터 23시 사이여야 합니다.");
+        }
+        settings.setDeliveryHour(dto.getDeliveryHour());
 
         notificationSettingsRepository.save(settings);
+        notificationSettingsCache.put(settings);
 
         return new NotificationSettingsResponse(settings);
     }
@@ -0,0 +1,240 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.UserWorkloadResponse;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.UserWorkload;
+import com.example.backend.repository.UserWorkloadRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// 사용자별 업무량 집계: 업무 쓰기마다 담당자 행만 증감하고, 대시보드는 기본 키로 한 행만 읽음
+// 날짜 기준 값은 자정 작업(rollover)이 날짜가 바뀌어 값이 달라지는 사용자만 다시 계산
+// 행은 대시보드를 처음 열 때 만들고, 행이 없는 사용자의 증감은 건너뜀
+// 다시 계산은 행을 먼저 잠그고 센 뒤 덮어써서, 그사이 커밋된 증감을 잃지 않음
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserWorkloadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserWorkloadService.class);
+    // 다시 계산이 필요한 행의 기준 날짜 (자정 작업이 날짜만 옮기지 않고, 대시보드/자정 작업/보정이 다시 계산)
+    private static final LocalDate NEEDS_RECOMPUTE = LocalDate.EPOCH;
+    // 증감을 분류한 날짜와 행의 기준 날짜가 다르면 증감이 맞지 않으므로 as_of 를 다시 계산 필요로 바꿈 (as_of 는 마지막에 대입해야 함)
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE user_workload SET assigned_open = assigned_open + ?, overdue = overdue + ?, due_today = due_today + ?, " +
+                    "completed_this_week = completed_this_week + ?, updated_at = ?, as_of = IF(as_of = ?, as_of, ?) WHERE user_id = ?";
+    private static final String UPSERT_VALUE_SQL =
+            "INSERT INTO user_workload (user_id, assigned_open, overdue, due_today, completed_this_week, as_of, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE assigned_open = VALUES(assigned_open), " +
+                    "overdue = VALUES(overdue), due_today = VALUES(due_today), " +
+                    "completed_this_week = VALUES(completed_this_week), as_of = VALUES(as_of), updated_at = VALUES(updated_at)";
+    // 날짜가 바뀌어도 값이 같은 행만 기준 날짜를 옮김: 계산한 날(as_of) ~ 오늘 사이에 마감인 진행 중 업무가 없고, 주가 바뀌었으면 이번 주 완료가 0
+    // UPDATE 안의 하위 쿼리는 업무 행을 공유 잠금으로 읽으므로, 자정 직전에 분류된 증감이 커밋 전이면 기다렸다가 그 업무까지 보고 판단
+    private static final String MARK_ROLLED_OVER_SQL =
+            "UPDATE user_workload w SET w.as_of = ? " +
+                    "WHERE w.user_id BETWEEN ? AND ? AND w.as_of < ? AND w.as_of > ? " +
+                    "AND NOT (w.as_of < ? AND w.completed_this_week <> 0) " +
+                    "AND NOT EXISTS (SELECT 1 FROM task t JOIN project p ON p.id = t.project_id AND p.deleted_at IS NULL " +
+                    "WHERE t.assignee_id = w.user_id AND t.status <> 'DONE' AND t.due_date BETWEEN w.as_of AND ?)";
+
+    private final UserWorkloadRepository workloadRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Counts(int assignedOpen, int overdue, int dueToday, int completedThisWeek) {
+
+        static final Counts ZERO = new Counts(0, 0, 0, 0);
+
+        Counts plus(Counts other, int sign) {
+            return new Counts(assignedOpen + sign * other.assignedOpen, overdue + sign * other.overdue,
+                    dueToday + sign * other.dueToday, completedThisWeek + sign * other.completedThisWeek);
+        }
+    }
+
+    public void applyChange(TaskState before, TaskState after) {
+        applyChanges(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    // 여러 업무의 변경 전/후 값을 담당자별로 합쳐 한 사람당 UPDATE 한 번 (일괄 작업용)
+    public void applyChanges(List<TaskState> before, List<TaskState> after) {
+        LocalDate today = LocalDate.now();
+        // 동시에 같은 사용자를 바꾸는 요청끼리 잠금 순서가 엇갈리지 않도록 사용자 ID 순서로 적용
+        Map<Long, Counts> deltas = new TreeMap<>();
+        before.forEach(state -> addCounts(deltas, state, -1, today));
+        after.forEach(state -> addCounts(deltas, state, 1, today));
+        deltas.values().removeIf(Counts.ZERO::equals);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = deltas.entrySet().stream()
+                .map(entry -> {
+                    Counts delta = entry.getValue();
+                    return new Object[]{delta.assignedOpen(), delta.overdue(), delta.dueToday(), delta.completedThisWeek(), now,
+                            Date.valueOf(today), Date.valueOf(NEEDS_RECOMPUTE), entry.getKey()};
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, rows);
+    }
+
+    // 대시보드: 오늘 기준으로 계산된 행이 있으면 그대로, 없거나 자정 작업 전이면 이 사용자만 다시 계산
+    // 읽기 커밋 격리: 앞에서 행을 읽었어도 잠근 뒤의 집계가 그때까지 커밋된 업무를 모두 봄
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public UserWorkloadResponse getWorkload(User currentUser) {
+        LocalDate today = LocalDate.now();
+        UserWorkload workload = workloadRepository.findById(currentUser.getId()).orElse(null);
+        if (workload != null && !workload.getAsOf().isBefore(today)) {
+            return new UserWorkloadResponse(Math.max(workload.getAssignedOpen(), 0), Math.max(workload.getOverdue(), 0),
+                    Math.max(workload.getDueToday(), 0), Math.max(workload.getCompletedThisWeek(), 0), workload.getAsOf());
+        }
+        Counts counts = recount(List.of(currentUser.getId()), today).get(currentUser.getId());
+        return new UserWorkloadResponse(counts.assignedOpen(), counts.overdue(), counts.dueToday(), counts.completedThisWeek(), today);
+    }
+
+    // 자정 작업: 날짜만 옮기지 못한 행 (값이 달라지는 사용자, 다시 계산 필요로 표시된 사용자)
+    @Transactional(readOnly = true)
+    public List<Long> findStaleUserIds(LocalDate today) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM user_workload WHERE as_of < ? ORDER BY user_id", Long.class,
+                Date.valueOf(today));
+    }
+
+    // 주어진 사용자들의 값을 오늘 기준으로 다시 계산해 저장 (호출한 쪽 트랜잭션과 따로, 커밋 후 호출해도 새 트랜잭션에서 실행)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+    public int recompute(Collection<Long> userIds, LocalDate today) {
+        return recount(userIds, today).size();
+    }
+
+    // ID 구간에서 날짜가 바뀌어도 값이 같은 행은 기준 날짜만 옮김 (옮긴 행 수 반환)
+    public int markRolledOver(LocalDate today, long fromId, long toId) {
+        return jdbcTemplate.update(MARK_ROLLED_OVER_SQL, Date.valueOf(today), fromId, toId, Date.valueOf(today),
+                Date.valueOf(NEEDS_RECOMPUTE), Date.valueOf(startOfWeek(today)), Date.valueOf(today));
+    }
+
+    @Transactional(readOnly = true)
+    public long maxUserId() {
+        Long maxId = workloadRepository.findMaxUserId();
+        return maxId != null ? maxId : 0L;
+    }
+
+    // 집계 값 검사: ID 구간에 있는 행을 오늘 기준 원본 집계와 비교해 다른 행만 고침 (고친 행 수 반환)
+    public int reconcile(long fromId, long toId) {
+        LocalDate today = LocalDate.now();
+        Map<Long, Counts> stored = new HashMap<>();
+        Map<Long, LocalDate> asOf = new HashMap<>();
+        // 잠금 읽기를 첫 문장으로 해서, 아래 집계의 스냅숏이 잠금 뒤에 잡히게 함 (그사이 증감이 덮어써지지 않음)
+        jdbcTemplate.query("SELECT user_id, assigned_open, overdue, due_today, completed_this_week, as_of FROM user_workload " +
+                "WHERE user_id BETWEEN ? AND ? FOR UPDATE", rs -> {
+            stored.put(rs.getLong("user_id"), new Counts(rs.getInt("assigned_open"), rs.getInt("overdue"),
+                    rs.getInt("due_today"), rs.getInt("completed_this_week")));
+            asOf.put(rs.getLong("user_id"), rs.getDate("as_of").toLocalDate());
+        }, fromId, toId);
+        if (stored.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Counts> fixes = new TreeMap<>();
+        countActual(stored.keySet(), today).forEach((userId, expected) -> {
+            if (!expected.equals(stored.get(userId)) || !today.equals(asOf.get(userId))) {
+                fixes.put(userId, expected);
+            }
+        });
+        store(fixes, today);
+        long repaired = fixes.keySet().stream().filter(userId -> !fixes.get(userId).equals(stored.get(userId))).count();
+        if (repaired > 0) {
+            logger.debug("사용자 업무량 보정 | 사용자 ID {} ~ {}, {}명", fromId, toId, repaired);
+        }
+        return (int) repaired;
+    }
+
+    // 원본 집계: 사용자마다 담당 업무를 담당자 인덱스로 한 번에 셈 (업무가 없는 사용자는 0, 삭제된 프로젝트의 업무는 제외)
+    private Map<Long, Counts> countActual(Collection<Long> userIds, LocalDate today) {
+        Map<Long, Counts> counts = new TreeMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        userIds.forEach(userId -> counts.put(userId, Counts.ZERO));
+        List<Object> params = new ArrayList<>(List.of(Date.valueOf(today), Date.valueOf(today),
+                Timestamp.valueOf(startOfWeek(today).atStartOfDay())));
+        params.addAll(userIds);
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        jdbcTemplate.query("SELECT t.assignee_id, " +
+                "COALESCE(SUM(t.status <> 'DONE'), 0) AS assigned_open, " +
+                "COALESCE(SUM(t.status <> 'DONE' AND t.due_date < ?), 0) AS overdue, " +
+                "COALESCE(SUM(t.status <> 'DONE' AND t.due_date = ?), 0) AS due_today, " +
+                "COALESCE(SUM(t.status = 'DONE' AND t.completed_at >= ?), 0) AS completed_this_week " +
+                "FROM task t JOIN project p ON p.id = t.project_id AND p.deleted_at IS NULL " +
+                "WHERE t.assignee_id IN (" + placeholders + ") GROUP BY t.assignee_id", rs -> {
+            counts.put(rs.getLong("assignee_id"), new Counts(rs.getInt("assigned_open"), rs.getInt("overdue"),
+                    rs.getInt("due_today"), rs.getInt("completed_this_week")));
+        }, params.toArray());
+        return counts;
+    }
+
+    // 행을 사용자 ID 순서로 잠근 뒤 세어 덮어씀 (읽기 커밋 격리에서 호출: 잠그기 전에 커밋된 증감은 집계에 들어가고, 뒤의 증감은 잠금을 기다렸다 더해짐)
+    // 행이 없던 사용자는 잠글 행이 없어, 처음 만드는 동안 진행 중이던 변경의 증감이 건너뛰어지면 야간 보정이 맞춤
+    private Map<Long, Counts> recount(Collection<Long> userIds, LocalDate today) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> sorted = userIds.stream().distinct().sorted().toList();
+        String placeholders = String.join(",", Collections.nCopies(sorted.size(), "?"));
+        jdbcTemplate.queryForList("SELECT user_id FROM user_workload WHERE user_id IN (" + placeholders + ") " +
+                "ORDER BY user_id FOR UPDATE", Long.class, sorted.toArray());
+        return store(countActual(sorted, today), today);
+    }
+
+    private Map<Long, Counts> store(Map<Long, Counts> counts, LocalDate today) {
+        if (counts.isEmpty()) {
+            return counts;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = counts.entrySet().stream()
+                .map(entry -> {
+                    Counts value = entry.getValue();
+                    return new Object[]{entry.getKey(), value.assignedOpen(), value.overdue(), value.dueToday(),
+                            value.completedThisWeek(), Date.valueOf(today), now};
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_VALUE_SQL, rows);
+        return counts;
+    }
+
+    // countActual 의 SQL 과 같은 기준
+    private static void addCounts(Map<Long, Counts> deltas, TaskState state, int sign, LocalDate today) {
+        if (state.assigneeId() == null) {
+            return;
+        }
+        Counts counts;
+        if (state.status() != Status.DONE) {
+            LocalDate dueDate = state.dueDate();
+            counts = new Counts(1, dueDate != null && dueDate.isBefore(today) ? 1 : 0, Objects.equals(dueDate, today) ? 1 : 0, 0);
+        } else {
+            boolean thisWeek = state.completedAt() != null && !state.completedAt().isBefore(startOfWeek(today).atStartOfDay());
+            counts = new Counts(0, 0, 0, thisWeek ? 1 : 0);
+        }
+        deltas.merge(state.assigneeId(), Counts.ZERO.plus(counts, sign), (current, added) -> current.plus(added, 1));
+    }
+
+    private static LocalDate startOfWeek(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+}
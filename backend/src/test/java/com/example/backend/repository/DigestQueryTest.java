@@ -0,0 +1,129 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.DigestItem;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.comment.Comment;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.project.ProjectInvitationStatus;
+import com.example.backend.entity.project.ProjectMember;
+import com.example.backend.entity.project.ProjectRole;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.user.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 요약 메일 집합 조회: 구독자 수와 관계없이 종류마다 한 문장으로, 수락한 프로젝트의 담당 업무만 읽는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DigestQueryTest {
+
+    private static final int SUBSCRIBERS = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private LocalDateTime since;
+
+    @BeforeEach
+    void setUp() {
+        since = LocalDateTime.now().minusHours(1);
+        User commenter = user("commenter");
+        Project project = project("board", commenter);
+        // 초대를 수락하지 않은 프로젝트의 업무는 요약에 나오지 않아야 함
+        Project pending = project("pending", commenter);
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            User subscriber = user("subscriber" + i);
+            member(project, subscriber, ProjectInvitationStatus.ACCEPTED);
+            member(pending, subscriber, ProjectInvitationStatus.PENDING);
+            userIds.add(subscriber.getId());
+
+            task(project, subscriber, "new " + i, Status.TODO);
+            Task done = task(project, subscriber, "done " + i, Status.DONE);
+            entityManager.persist(new Comment("comment", commenter, done));
+            // 본인이 단 댓글은 제외
+            entityManager.persist(new Comment("self", subscriber, task(project, subscriber, "self " + i, Status.IN_PROGRESS)));
+            task(pending, subscriber, "pending " + i, Status.TODO);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void loadsEachSectionForAllSubscribersInOneStatement() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<DigestItem> newTasks = taskRepository.findNewTaskDigestItems(userIds, since);
+        List<DigestItem> completedTasks = taskRepository.findCompletedTaskDigestItems(userIds, since);
+        List<DigestItem> commentedTasks = commentRepository.findCommentedTaskDigestItems(userIds, since);
+
+        assertEquals(3, statistics.getPrepareStatementCount(), "구독자 수와 관계없이 종류마다 한 문장이어야 합니다.");
+        // 진행 중(TODO, IN_PROGRESS) 업무 2건씩, 완료 1건씩, 다른 사람 댓글 1건씩
+        assertEquals(SUBSCRIBERS * 2, newTasks.size());
+        assertEquals(SUBSCRIBERS, completedTasks.size());
+        assertEquals(SUBSCRIBERS, commentedTasks.size());
+        assertTrue(newTasks.stream().noneMatch(item -> item.getProjectName().equals("pending")));
+        assertTrue(commentedTasks.stream().allMatch(item -> item.getTaskTitle().startsWith("done ")));
+        assertEquals(userIds, commentedTasks.stream().map(DigestItem::getUserId).toList());
+    }
+
+    @Test
+    void skipsActivityBeforeSince() {
+        assertTrue(taskRepository.findNewTaskDigestItems(userIds, LocalDateTime.now().plusMinutes(1)).isEmpty());
+        assertTrue(commentRepository.findCommentedTaskDigestItems(userIds, LocalDateTime.now().plusMinutes(1)).isEmpty());
+    }
+
+    private User user(String name) {
+        User user = User.builder().name(name).email(name + "@example.com").build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Project project(String name, User creator) {
+        Project project = Project.builder().name(name).status(Status.TODO).creator(creator).build();
+        entityManager.persist(project);
+        return project;
+    }
+
+    private Task task(Project project, User assignee, String title, Status status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setStatus(status);
+        entityManager.persist(task);
+        return task;
+    }
+
+    private void member(Project project, User user, ProjectInvitationStatus invitationStatus) {
+        entityManager.persist(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .invitationStatus(invitationStatus)
+                .build());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.TaskCursor;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskResponse;
+import com.example.backend.dto.TaskSort;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.comment.Comment;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.project.ProjectInvitationStatus;
+import com.example.backend.entity.project.ProjectMember;
+import com.example.backend.entity.project.ProjectRole;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.user.User;
+import com.example.backend.entity.user.UserProfile;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 업무 목록 페이지 조회가 업무 수와 관계없이 페이지마다 한 문장으로 끝나는지 확인 (N+1 회귀 방지)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskListQueryCountTest {
+
+    private static final int TASKS = 300;
+    private static final int ASSIGNEES = 20;
+    private static final int COMMENTS_PER_TASK = 3;
+    private static final int PAGE_SIZE = 40;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user("owner");
+        Project project = Project.builder().name("board").status(Status.TODO).creator(owner).build();
+        entityManager.persist(project);
+        member(project, owner, ProjectRole.ADMIN);
+
+        // 담당자마다 다른 프로젝트 멤버십도 만들어 두어 역할을 프로젝트 기준으로 고르는지 확인
+        Project other = Project.builder().name("other").status(Status.TODO).creator(owner).build();
+        entityManager.persist(other);
+
+        List<User> assignees = new ArrayList<>();
+        for (int i = 0; i < ASSIGNEES; i++) {
+            User assignee = user("assignee" + i);
+            member(project, assignee, ProjectRole.MEMBER);
+            member(other, assignee, ProjectRole.VIEWER);
+            assignees.add(assignee);
+        }
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("task " + i);
+            task.setProject(project);
+            // 10개 중 하나는 담당자 없음
+            task.setAssignee(i % 10 == 0 ? null : assignees.get(i % ASSIGNEES));
+            task.setCommentCount(COMMENTS_PER_TASK);
+            entityManager.persist(task);
+            for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+                entityManager.persist(new Comment("comment " + c, owner, task));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+    }
+
+    @Test
+    void loadsTaskPageInSingleStatement() {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<TaskResponse> tasks = taskRepository.findPage(projectId, TaskFilter.builder().limit(TASKS).build());
+
+        assertEquals(TASKS, tasks.size());
+        assertEquals(1, statistics.getPrepareStatementCount(), "업무 목록은 한 문장으로 조회해야 합니다.");
+        for (TaskResponse task : tasks) {
+            assertEquals(COMMENTS_PER_TASK, task.getComments());
+            if (task.getAssignee() == null) {
+                continue;
+            }
+            assertEquals(ProjectRole.MEMBER, task.getAssignee().getRole());
+            assertTrue(task.getAssignee().getAvatarUrl().endsWith(".png"));
+        }
+        assertNull(tasks.stream().filter(task -> task.getTitle().equals("task 0")).findFirst().orElseThrow().getAssignee());
+    }
+
+    // 조건/정렬/커서가 붙어도 페이지마다 한 문장 (담당자/프로필/멤버 역할이 업무마다 따로 조회되지 않음)
+    @Test
+    void pagesWithFiltersUseOneStatementPerPage() {
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(Set.of(Status.TODO))
+                .sort(TaskSort.parse(List.of("dueDate,asc")))
+                .limit(PAGE_SIZE)
+                .build();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        int pages = 0;
+        int loaded = 0;
+        TaskFilter page = filter;
+        while (true) {
+            List<TaskResponse> tasks = taskRepository.findPage(projectId, page);
+            pages++;
+            List<TaskResponse> current = tasks.subList(0, Math.min(tasks.size(), PAGE_SIZE));
+            loaded += current.size();
+            assertTrue(current.stream().filter(task -> task.getAssignee() != null)
+                    .allMatch(task -> task.getAssignee().getRole() == ProjectRole.MEMBER));
+            if (tasks.size() <= PAGE_SIZE) {
+                break;
+            }
+            page = filter.toBuilder().cursor(TaskCursor.of(current.get(current.size() - 1), filter.getSort())).build();
+        }
+
+        assertEquals(TASKS, loaded);
+        assertTrue(pages > 1);
+        assertEquals(pages, statistics.getPrepareStatementCount(), "페이지마다 한 문장으로 조회해야 합니다.");
+    }
+
+    private User user(String name) {
+        User user = User.builder().name(name).email(name + "@example.com").build();
+        UserProfile profile = new UserProfile();
+        profile.setAvatarUrl("https://cdn.example.com/" + name + ".png");
+        user.setUserProfile(profile);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void member(Project project, User user, ProjectRole role) {
+        entityManager.persist(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(role)
+                .invitationStatus(ProjectInvitationStatus.ACCEPTED)
+                .build());
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
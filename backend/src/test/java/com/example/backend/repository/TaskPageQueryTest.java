@@ -0,0 +1,185 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.MyTaskResponse;
+import com.example.backend.dto.TaskCursor;
+import com.example.backend.dto.TaskFilter;
+import com.example.backend.dto.TaskResponse;
+import com.example.backend.dto.TaskSort;
+import com.example.backend.entity.Status;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.project.ProjectInvitationStatus;
+import com.example.backend.entity.project.ProjectMember;
+import com.example.backend.entity.project.ProjectRole;
+import com.example.backend.entity.task.Task;
+import com.example.backend.entity.task.TaskPriority;
+import com.example.backend.entity.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 여러 정렬 키(null 포함) 커서로 끝까지 넘겼을 때 빠지거나 겹치는 업무 없이 전체 정렬 순서와 같은지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskPageQueryTest {
+
+    private static final int TASKS = 97;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long projectId;
+    private Long assigneeId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder().name("owner").email("owner@example.com").build();
+        entityManager.persist(owner);
+        Project project = Project.builder().name("board").status(Status.TODO).creator(owner).build();
+        entityManager.persist(project);
+        member(project, owner, ProjectInvitationStatus.ACCEPTED);
+
+        // 초대를 수락하지 않은 프로젝트의 업무는 내 업무에 나오지 않아야 함
+        Project pending = Project.builder().name("pending").status(Status.TODO).creator(owner).build();
+        entityManager.persist(pending);
+        member(pending, owner, ProjectInvitationStatus.PENDING);
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("pending " + i);
+            task.setProject(pending);
+            task.setAssignee(owner);
+            entityManager.persist(task);
+        }
+
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("task " + i);
+            task.setProject(project);
+            task.setStatus(Status.values()[i % 3]);
+            task.setPriority(TaskPriority.values()[i % 3 == 0 ? 2 : i % 2]);
+            // 같은 마감일이 여럿, 7개 중 하나는 마감일 없음
+            task.setDueDate(i % 7 == 0 ? null : base.plusDays(i % 5));
+            task.setAssignee(i % 4 == 0 ? owner : null);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+        assigneeId = owner.getId();
+    }
+
+    @Test
+    void walksAllPagesInSortOrder() {
+        List<TaskSort> sorts = TaskSort.parse(List.of("priority,desc", "dueDate,asc"));
+        List<TaskResponse> walked = walk(TaskFilter.builder().sort(sorts).limit(PAGE_SIZE).build());
+
+        List<TaskResponse> expected = new ArrayList<>(walked);
+        expected.sort(Comparator.comparing((TaskResponse task) -> task.getPriority().ordinal(), Comparator.reverseOrder())
+                .thenComparing(TaskResponse::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(TaskResponse::getId));
+        assertEquals(TASKS, walked.size());
+        assertEquals(TASKS, walked.stream().map(TaskResponse::getId).distinct().count());
+        assertEquals(expected.stream().map(TaskResponse::getId).toList(), walked.stream().map(TaskResponse::getId).toList());
+    }
+
+    @Test
+    void appliesFiltersToPagesAndCounts() {
+        TaskFilter filter = TaskFilter.builder()
+                .statuses(Set.of(Status.TODO, Status.DONE))
+                .assigneeId(assigneeId)
+                .sort(TaskSort.parse(List.of("dueDate,desc")))
+                .limit(3)
+                .build();
+        List<TaskResponse> walked = walk(filter);
+        Map<Status, Long> counts = taskRepository.countByStatus(projectId, filter);
+
+        assertTrue(walked.stream().allMatch(task -> task.getStatus() != Status.IN_PROGRESS
+                && task.getAssignee() != null && task.getAssignee().getId().equals(assigneeId)));
+        assertEquals(0L, counts.get(Status.IN_PROGRESS));
+        assertEquals(walked.size(), counts.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    // 보드 첫 화면(창 함수 한 문장)은 상태별 첫 페이지와 같아야 함
+    @Test
+    void boardHeadsMatchFirstPagePerStatus() {
+        List<TaskResponse> heads = taskRepository.findBoardHeads(projectId, PAGE_SIZE);
+
+        for (Status status : Status.values()) {
+            List<Long> column = heads.stream().filter(task -> task.getStatus() == status).map(TaskResponse::getId).toList();
+            List<Long> firstPage = taskRepository.findPage(projectId,
+                            TaskFilter.builder().statuses(Set.of(status)).limit(PAGE_SIZE).build())
+                    .stream().limit(PAGE_SIZE).map(TaskResponse::getId).toList();
+            assertEquals(firstPage, column);
+        }
+    }
+
+    @Test
+    void walksMyTasksByDueDateAcrossAcceptedProjects() {
+        TaskFilter filter = TaskFilter.builder().sort(TaskSort.BY_DUE_DATE).limit(4).build();
+        List<MyTaskResponse> walked = new ArrayList<>();
+        TaskFilter page = filter;
+        while (true) {
+            List<MyTaskResponse> tasks = taskRepository.findAssignedPage(assigneeId, page);
+            walked.addAll(tasks.subList(0, Math.min(tasks.size(), filter.getLimit())));
+            if (tasks.size() <= filter.getLimit()) {
+                break;
+            }
+            MyTaskResponse last = walked.get(walked.size() - 1);
+            String cursor = new TaskCursor(Arrays.asList(last.getDueDate()), last.getId()).toString();
+            page = filter.toBuilder().cursor(TaskCursor.parse(cursor, TaskSort.BY_DUE_DATE)).build();
+        }
+
+        List<MyTaskResponse> expected = new ArrayList<>(walked);
+        expected.sort(Comparator.comparing(MyTaskResponse::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(MyTaskResponse::getId));
+        assertEquals((TASKS + 3) / 4, walked.size());
+        assertTrue(walked.stream().allMatch(task -> task.getProjectId().equals(projectId)));
+        assertEquals(expected.stream().map(MyTaskResponse::getId).toList(), walked.stream().map(MyTaskResponse::getId).toList());
+    }
+
+    private List<TaskResponse> walk(TaskFilter filter) {
+        List<TaskResponse> walked = new ArrayList<>();
+        TaskFilter page = filter;
+        while (true) {
+            List<TaskResponse> tasks = taskRepository.findPage(projectId, page);
+            if (tasks.size() <= filter.getLimit()) {
+                walked.addAll(tasks);
+                return walked;
+            }
+            List<TaskResponse> current = tasks.subList(0, filter.getLimit());
+            walked.addAll(current);
+            // 문자열로 주고받는 경로 그대로 다음 커서를 만듦
+            String cursor = TaskCursor.of(current.get(current.size() - 1), filter.getSort()).toString();
+            page = filter.toBuilder().cursor(TaskCursor.parse(cursor, filter.getSort())).build();
+        }
+    }
+
+    private void member(Project project, User user, ProjectInvitationStatus invitationStatus) {
+        entityManager.persist(ProjectMember.builder()
+                .project(project)
+                .user(user)
+                .role(ProjectRole.MEMBER)
+                .invitationStatus(invitationStatus)
+                .build());
+    }
+}
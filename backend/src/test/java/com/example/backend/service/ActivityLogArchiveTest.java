@@ -0,0 +1,104 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogCursor;
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.dto.ActivityLogResponse;
+import com.example.backend.entity.project.Project;
+import com.example.backend.entity.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 콜드 저장소: 여러 세그먼트를 최신순으로 합치고, DB(핫) 로그 뒤에 콜드 로그가 순서대로 이어지는지 확인
+class ActivityLogArchiveTest {
+
+    private static final Long PROJECT_ID = 7L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void mergesSegmentsNewestFirstWithoutDuplicates() throws IOException {
+        ActivityLogArchive archive = new ActivityLogArchive(dir.toString(), 4);
+        List<ActivityLogSegment.Entry> entries = ActivityLogSegmentTest.entries(40);
+        // 옮기다 중단된 경우처럼 경계의 한 건(ID 21)이 두 세그먼트에 모두 있음
+        commit(archive, entries.subList(0, 20));
+        commit(archive, entries.subList(19, 40));
+
+        assertEquals(entries.subList(0, 10), archive.findPage(PROJECT_ID, ActivityLogFilter.builder().limit(10).build()));
+
+        ActivityLogSegment.Entry last = entries.get(14);
+        List<ActivityLogSegment.Entry> page = archive.findPage(PROJECT_ID, ActivityLogFilter.builder()
+                .cursor(new ActivityLogCursor(last.createdAt(), last.id())).limit(10).build());
+        assertEquals(entries.subList(15, 25), page);
+    }
+
+    @Test
+    void segmentIsVisibleOnlyAfterCommit() throws IOException {
+        ActivityLogArchive archive = new ActivityLogArchive(dir.toString(), 4);
+        ActivityLogSegment.Writer writer = archive.newWriter(PROJECT_ID);
+        writer.append(ActivityLogSegmentTest.entries(1).get(0));
+        writer.close();
+        assertFalse(archive.hasSegments(PROJECT_ID));
+
+        archive.commit(PROJECT_ID, writer);
+        assertTrue(archive.hasSegments(PROJECT_ID));
+
+        assertEquals(1, archive.deleteSegments(PROJECT_ID));
+        assertFalse(archive.hasSegments(PROJECT_ID));
+    }
+
+    @Test
+    void coldLogsFollowHotLogs() throws IOException {
+        ActivityLogArchive archive = new ActivityLogArchive(dir.toString(), 4);
+        List<ActivityLogSegment.Entry> entries = ActivityLogSegmentTest.entries(12);
+        commit(archive, entries.subList(3, 12));
+        // DB 에는 최신 네 건이 남아 있고, 그중 마지막 건은 세그먼트로 옮기는 중이라 양쪽에 있음
+        List<ActivityLogResponse> hot = entries.subList(0, 4).stream().map(ActivityLogArchiveTest::hot).toList();
+        Project project = Project.builder().id(PROJECT_ID).name("보관 프로젝트").build();
+        User user = User.builder().id(3L).name("김철수").build();
+
+        ActivityLogFilter filter = ActivityLogService.coldFilter(ActivityLogFilter.builder().limit(8).build(), hot);
+        assertEquals(4, filter.getLimit());
+        List<ActivityLogSegment.Entry> cold = archive.findPage(PROJECT_ID, filter);
+        List<ActivityLogResponse> combined = ActivityLogService.combine(project, hot, cold, Map.of(3L, user));
+
+        assertEquals(entries.subList(0, 8).stream().map(ActivityLogSegment.Entry::id).toList(),
+                combined.stream().map(ActivityLogResponse::getId).toList());
+        for (int i = 1; i < combined.size(); i++) {
+            assertTrue(ActivityFeedService.NEWEST_FIRST.compare(combined.get(i - 1), combined.get(i)) < 0);
+        }
+        ActivityLogResponse coldLog = combined.get(4);
+        assertEquals(3L, coldLog.getUserId());
+        assertEquals("김철수", coldLog.getUserName());
+        assertEquals("보관 프로젝트", coldLog.getProjectName());
+
+        // 커서와 같은 키를 가진 로그가 콜드 쪽 결과에 섞여 와도 한 번만 나옴
+        List<ActivityLogResponse> withDuplicate = ActivityLogService.combine(project, hot, entries.subList(3, 5), Map.of());
+        assertEquals(List.of(12L, 11L, 10L, 9L, 8L), withDuplicate.stream().map(ActivityLogResponse::getId).toList());
+        assertNull(withDuplicate.get(4).getUserAvatarUrl());
+    }
+
+    private void commit(ActivityLogArchive archive, List<ActivityLogSegment.Entry> entries) throws IOException {
+        ActivityLogSegment.Writer writer = archive.newWriter(PROJECT_ID);
+        for (ActivityLogSegment.Entry entry : entries) {
+            writer.append(entry);
+        }
+        writer.close();
+        archive.commit(PROJECT_ID, writer);
+    }
+
+    private static ActivityLogResponse hot(ActivityLogSegment.Entry entry) {
+        return new ActivityLogResponse(entry.id(), null, entry.params(), entry.type(), entry.createdAt(),
+                entry.userId(), "작성자", null, PROJECT_ID, "보관 프로젝트");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.ActivityLogCursor;
+import com.example.backend.dto.ActivityLogFilter;
+import com.example.backend.entity.activitylog.ActivityLogType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 콜드 세그먼트 파일: 쓴 그대로 읽히는지, 빈 세그먼트와 블록 인덱스로 찾아가는 커서/기간 경계를 확인
+class ActivityLogSegmentTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int BLOCK_SIZE = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWhatWasWritten() throws IOException {
+        List<ActivityLogSegment.Entry> entries = List.of(
+                new ActivityLogSegment.Entry(5, BASE.plusNanos(123_456_000), ActivityLogType.TASK_CREATED, 1L,
+                        "{\"taskId\":10,\"title\":\"업무\"}", null),
+                new ActivityLogSegment.Entry(4, BASE, ActivityLogType.COMMENT_CREATED, null, null, "<strong>이전</strong> 문장 ✓"),
+                new ActivityLogSegment.Entry(3, BASE, ActivityLogType.MEMBER_JOINED, 2L, "{}", ""));
+
+        ActivityLogSegment segment = write("round-trip", entries);
+
+        assertEquals(3, segment.getEntryCount());
+        assertEquals(BASE.plusNanos(123_456_000), segment.getNewestCreatedAt());
+        assertEquals(entries, segment.read(filter(null, 10), 10));
+    }
+
+    @Test
+    void emptySegmentReadsNothing() throws IOException {
+        ActivityLogSegment segment = write("empty", List.of());
+
+        assertEquals(0, segment.getEntryCount());
+        assertTrue(segment.read(filter(null, 10), 10).isEmpty());
+        assertTrue(segment.read(ActivityLogFilter.builder().from(BASE).to(BASE.plusDays(1)).limit(10).build(), 10).isEmpty());
+    }
+
+    @Test
+    void cursorSeeksToTheRightBlock() throws IOException {
+        // 블록 경계마다 같은 시각이 걸치도록 두 건씩 같은 시각 (ID 로 순서를 가름)
+        List<ActivityLogSegment.Entry> entries = entries(40);
+        ActivityLogSegment segment = write("seek", entries);
+
+        for (int index : new int[]{0, 3, 4, 5, 18, 38, 39}) {
+            ActivityLogSegment.Entry last = entries.get(index);
+            List<ActivityLogSegment.Entry> page = segment.read(filter(new ActivityLogCursor(last.createdAt(), last.id()), 5), 5);
+            assertEquals(entries.subList(index + 1, Math.min(index + 6, entries.size())), page, "cursor at " + index);
+        }
+    }
+
+    @Test
+    void appliesPeriodAndFilterAcrossBlocks() throws IOException {
+        List<ActivityLogSegment.Entry> entries = entries(40);
+        ActivityLogSegment segment = write("period", entries);
+        LocalDateTime to = entries.get(9).createdAt();
+        LocalDateTime from = entries.get(30).createdAt();
+
+        List<ActivityLogSegment.Entry> page = segment.read(ActivityLogFilter.builder().from(from).to(to).limit(100).build(), 100);
+        // to 와 같은 시각의 두 건(9, 10번째)은 제외, from 과 같은 시각의 두 건(29, 30번째)은 포함
+        assertEquals(entries.subList(11, 31), page);
+
+        List<ActivityLogSegment.Entry> comments = segment.read(ActivityLogFilter.builder()
+                .types(Set.of(ActivityLogType.COMMENT_CREATED)).limit(3).build(), 3);
+        assertEquals(List.of(entries.get(1), entries.get(3), entries.get(5)), comments);
+    }
+
+    @Test
+    void rejectsEntriesOutOfOrder() throws IOException {
+        try (ActivityLogSegment.Writer writer = new ActivityLogSegment.Writer(dir.resolve("order.als"), BLOCK_SIZE)) {
+            writer.append(new ActivityLogSegment.Entry(2, BASE, ActivityLogType.TASK_CREATED, 1L, "{}", null));
+            assertThrows(IllegalArgumentException.class, () ->
+                    writer.append(new ActivityLogSegment.Entry(3, BASE, ActivityLogType.TASK_CREATED, 1L, "{}", null)));
+        }
+    }
+
+    // 최신순: ID 가 클수록 최신, 두 건씩 같은 시각
+    static List<ActivityLogSegment.Entry> entries(int count) {
+        List<ActivityLogSegment.Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = count - i;
+            entries.add(new ActivityLogSegment.Entry(id, BASE.minusMinutes((i + 1) / 2), i % 2 == 0
+                    ? ActivityLogType.TASK_UPDATED : ActivityLogType.COMMENT_CREATED, id % 3 + 1, "{\"taskId\":" + id + "}", null));
+        }
+        return entries;
+    }
+
+    private ActivityLogSegment write(String name, List<ActivityLogSegment.Entry> entries) throws IOException {
+        Path path = dir.resolve(name + ActivityLogSegment.EXTENSION);
+        try (ActivityLogSegment.Writer writer = new ActivityLogSegment.Writer(path, BLOCK_SIZE)) {
+            for (ActivityLogSegment.Entry entry : entries) {
+                writer.append(entry);
+            }
+        }
+        return ActivityLogSegment.open(path);
+    }
+
+    private static ActivityLogFilter filter(ActivityLogCursor cursor, int limit) {
+        return ActivityLogFilter.builder().cursor(cursor).limit(limit).build();
+    }
+}
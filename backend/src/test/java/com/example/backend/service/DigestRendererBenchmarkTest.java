@@ -0,0 +1,94 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DigestItem;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 구독자 1만 명 요약 메일 본문 생성 시간: 사용자별 순차 생성과 병렬 생성(스레드 4개)을 비교
+// 기본 test 작업에서는 빠지고 ./gradlew benchmark 로 실행 (결과는 JUnit 보고 항목으로 남김)
+@Tag("benchmark")
+class DigestRendererBenchmarkTest {
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int PROJECTS_PER_USER = 5;
+    private static final int TASKS_PER_SECTION = 3;
+    private static final int ITEMS_PER_USER = PROJECTS_PER_USER * TASKS_PER_SECTION;
+    private static final int THREADS = 4;
+
+    @Test
+    void rendersTenThousandSubscribers(TestReporter reporter) {
+        List<Long> userIds = LongStream.rangeClosed(1, SUBSCRIBERS).boxed().toList();
+        List<DigestItem> newTasks = items(userIds, "new");
+        List<DigestItem> completedTasks = items(userIds, "done");
+        List<DigestItem> commentedTasks = items(userIds, "comment");
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            // JIT 예열 후 측정
+            renderSerially(userIds, newTasks, completedTasks, commentedTasks);
+            DigestRenderer.renderAll(userIds, newTasks, completedTasks, commentedTasks, "일일", pool);
+
+            long serialStarted = System.nanoTime();
+            int serialBodies = renderSerially(userIds, newTasks, completedTasks, commentedTasks);
+            long serialMillis = (System.nanoTime() - serialStarted) / 1_000_000;
+
+            long parallelStarted = System.nanoTime();
+            Map<Long, String> bodies = DigestRenderer.renderAll(userIds, newTasks, completedTasks, commentedTasks, "일일", pool);
+            long parallelMillis = (System.nanoTime() - parallelStarted) / 1_000_000;
+
+            reporter.publishEntry(Map.of(
+                    "subscribers", String.valueOf(SUBSCRIBERS),
+                    "serialMillis", String.valueOf(serialMillis),
+                    "parallelMillis", String.valueOf(parallelMillis)));
+
+            assertEquals(SUBSCRIBERS, serialBodies);
+            assertEquals(SUBSCRIBERS, bodies.size());
+            assertTrue(bodies.get(1L).startsWith("<h1>지난 하루 동안 활동 요약</h1>"));
+            // 코어가 부족한 환경에서는 병렬 생성이 빨라질 수 없으므로 시간 비교를 하지 않음
+            assumeTrue(Runtime.getRuntime().availableProcessors() >= THREADS);
+            assertTrue(parallelMillis <= serialMillis,
+                    "병렬 생성(" + parallelMillis + "ms)이 순차 생성(" + serialMillis + "ms)보다 느립니다.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static int renderSerially(List<Long> userIds, List<DigestItem> newTasks,
+                                      List<DigestItem> completedTasks, List<DigestItem> commentedTasks) {
+        int rendered = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            int from = i * ITEMS_PER_USER;
+            int to = from + ITEMS_PER_USER;
+            if (DigestRenderer.render("일일", newTasks.subList(from, to), completedTasks.subList(from, to),
+                    commentedTasks.subList(from, to)) != null) {
+                rendered++;
+            }
+        }
+        return rendered;
+    }
+
+    private static List<DigestItem> items(List<Long> userIds, String prefix) {
+        List<DigestItem> items = new ArrayList<>(userIds.size() * ITEMS_PER_USER);
+        long taskId = 0;
+        for (Long userId : userIds) {
+            for (long project = 1; project <= PROJECTS_PER_USER; project++) {
+                for (int task = 0; task < TASKS_PER_SECTION; task++) {
+                    items.add(new DigestItem(userId, project, "프로젝트 " + project, ++taskId, prefix + " 업무 " + taskId));
+                }
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.DigestItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 요약 메일 본문: 병렬 생성 결과가 사용자별 순차 생성과 같고, 변경 사항이 없는 사용자는 빠지는지 확인
+class DigestRendererTest {
+
+    private static final int SUBSCRIBERS = 2_000;
+    private static final int PROJECTS_PER_USER = 5;
+    private static final int TASKS_PER_SECTION = 3;
+
+    @Test
+    void parallelRenderMatchesPerUserRender() {
+        // 짝수 ID 사용자만 변경 사항이 있음
+        List<Long> userIds = LongStream.rangeClosed(1, SUBSCRIBERS).boxed().toList();
+        List<Long> activeUserIds = userIds.stream().filter(userId -> userId % 2 == 0).toList();
+        List<DigestItem> newTasks = items(activeUserIds, "new");
+        List<DigestItem> completedTasks = items(activeUserIds, "done");
+        List<DigestItem> commentedTasks = items(activeUserIds, "comment");
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        Map<Long, String> bodies;
+        try {
+            bodies = DigestRenderer.renderAll(userIds, newTasks, completedTasks, commentedTasks, "일일", pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(activeUserIds, List.copyOf(bodies.keySet()));
+        for (int i = 0; i < activeUserIds.size(); i++) {
+            int from = i * PROJECTS_PER_USER * TASKS_PER_SECTION;
+            int to = from + PROJECTS_PER_USER * TASKS_PER_SECTION;
+            String expected = DigestRenderer.render("일일",
+                    newTasks.subList(from, to), completedTasks.subList(from, to), commentedTasks.subList(from, to));
+            assertEquals(expected, bodies.get(activeUserIds.get(i)));
+        }
+
+        String body = bodies.get(2L);
+        assertTrue(body.startsWith("<h1>지난 하루 동안 활동 요약</h1>"));
+        assertEquals(PROJECTS_PER_USER, body.split("<h2>", -1).length - 1);
+        assertTrue(body.contains("<li><b>새로 할당된 업무 (3건):</b>"));
+        assertTrue(body.contains("<li><b>완료된 업무 (3건):</b>"));
+        assertTrue(body.contains("<li><b>새로운 댓글이 달린 업무 (3건):</b>"));
+    }
+
+    @Test
+    void rendersWeeklyHeaderAndSkipsEmptySections() {
+        DigestItem completed = new DigestItem(1L, 10L, "프로젝트 10", 100L, "완료 업무");
+
+        String body = DigestRenderer.render("주간", List.of(), List.of(completed), List.of());
+
+        assertTrue(body.startsWith("<h1>지난 일주일 동안 활동 요약</h1>"));
+        assertTrue(body.contains("<li><b>완료된 업무 (1건):</b> '완료 업무'</li>"));
+        assertFalse(body.contains("새로 할당된 업무"));
+        assertNull(DigestRenderer.render("주간", List.of(), List.of(), List.of()));
+    }
+
+    private static List<DigestItem> items(List<Long> userIds, String prefix) {
+        List<DigestItem> items = new ArrayList<>(userIds.size() * PROJECTS_PER_USER * TASKS_PER_SECTION);
+        long taskId = 0;
+        for (Long userId : userIds) {
+            for (long project = 1; project <= PROJECTS_PER_USER; project++) {
+                for (int task = 0; task < TASKS_PER_SECTION; task++) {
+                    items.add(new DigestItem(userId, project, "프로젝트 " + project, ++taskId, prefix + " 업무 " + taskId));
+                }
+            }
+        }
+        return items;
+    }
+}
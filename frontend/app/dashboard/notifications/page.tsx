@@ -155,9 +155,14 @@ export default function NotificationsPage() {
                       </Avatar>
                       <div className="flex-1 space-y-1">
                         <div className="flex items-center justify-between">
-                          <p className="font-medium">{notification.title}</p>
+                          <p className="font-medium">
+                            {notification.title}
+                            {(notification.count ?? 1) > 1 && (
+                              <span className="ml-1 text-sm font-normal text-muted-foreground">({notification.count}건의 업데이트)</span>
+                            )}
+                          </p>
                           <p className="text-xs text-muted-foreground">
-                            {formatCommentTimestamp(notification.createdAt)}
+                            {formatCommentTimestamp(notification.updatedAt ?? notification.createdAt)}
                           </p>
                         </div>
                         <p className="text-sm text-muted-foreground" dangerouslySetInnerHTML={{ __html: notification.description }} />
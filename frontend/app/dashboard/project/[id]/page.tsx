@@ -40,6 +40,25 @@ const formatCommentTimestamp = (timestamp?: string): string => {
     return formatDistanceToNow(date, { addSuffix: true, locale: ko });
 };
 
+const ACTIVITY_PAGE_SIZE = 30;
+
+const ACTIVITY_TYPE_GROUPS: Record<string, string[]> = {
+  TASK: [
+    "TASK_CREATED", "TASK_UPDATED", "TASK_STATUS_CHANGED", "TASK_DELETED", "TASK_RESTORED",
+    "TASKS_BULK_UPDATED", "TASKS_BULK_ASSIGNED", "TASKS_BULK_UNASSIGNED", "TASKS_BULK_DELETED",
+  ],
+  COMMENT: ["COMMENT_CREATED"],
+  MEMBER: ["MEMBER_INVITED", "MEMBER_JOINED", "MEMBER_ROLE_CHANGED", "MEMBER_REMOVED"],
+};
+
+const buildActivityQuery = (typeFilter: string, userFilter: string, cursor?: string): string => {
+  const params = new URLSearchParams({ limit: String(ACTIVITY_PAGE_SIZE) });
+  (ACTIVITY_TYPE_GROUPS[typeFilter] || []).forEach(type => params.append("type", type));
+  if (userFilter !== "all") params.set("actorId", userFilter);
+  if (cursor) params.set("cursor", cursor);
+  return params.toString();
+};
+
 function ProjectDetailContent() {
   const params = useParams();
   const router = useRouter();
@@ -48,7 +67,8 @@ function ProjectDetailContent() {
   
   const [project, setProject] = useState<ApiProject | null>(null);
   const [activities, setActivities] = useState<ApiActivityLog[]>([]);
-  const [showAllActivities, setShowAllActivities] = useState(false);
+  const [hasMoreActivities, setHasMoreActivities] = useState(false);
+  const [isLoadingMoreActivities, setIsLoadingMoreActivities] = useState(false);
   const [activityUserFilter, setActivityUserFilter] = useState<string>("all");
   const [activityTypeFilter, setActivityTypeFilter] = useState<string>("all");
   const [isLoading, setIsLoading] = useState(true);
@@ -63,28 +83,42 @@ function ProjectDetailContent() {
     }
   }, []);
 
+  // 활동 로그는 서버에서 필터링하고 (createdAt, id) 커서로 다음 페이지를 이어서 조회
+  const fetchActivities = useCallback(async (cursor?: string) => {
+    if (!projectId) { return; }
+    const query = buildActivityQuery(activityTypeFilter, activityUserFilter, cursor);
+    const activityResponse = await apiCall<ApiActivityLog[]>(`/api/projects/${projectId}/activitylog?${query}`);
+
+    if (activityResponse.success) {
+      const page = activityResponse.data || [];
+      setActivities(prev => cursor ? [...prev, ...page] : page);
+      setHasMoreActivities(page.length === ACTIVITY_PAGE_SIZE);
+    } else {
+      console.warn("활동 로그 로딩 실패:", activityResponse.error.message);
+    }
+  }, [projectId, activityTypeFilter, activityUserFilter]);
+
+  const loadMoreActivities = async () => {
+    const last = activities[activities.length - 1];
+    if (!last) return;
+    setIsLoadingMoreActivities(true);
+    await fetchActivities(`${last.createdAt}_${last.id}`);
+    setIsLoadingMoreActivities(false);
+  };
+
   const fetchProjectData = useCallback(async (showLoadingSpinner = true) => {
     if (!projectId) { return; }
     if (showLoadingSpinner) setIsLoading(true);
     setError(null);
     
     try {
-      const [projectResponse, activityResponse] = await Promise.all([
-        apiCall<ApiProject>(`/api/projects/${projectId}`),
-        apiCall<ApiActivityLog[]>(`/api/projects/${projectId}/activitylog`)
-      ]);
+      const projectResponse = await apiCall<ApiProject>(`/api/projects/${projectId}`);
 
       if (projectResponse.success) {
         setProject(projectResponse.data);
       } else {
         throw new Error(projectResponse.error.message);
       }
-
-      if (activityResponse.success) {
-        setActivities(activityResponse.data);
-      } else {
-        console.warn("활동 로그 로딩 실패:", activityResponse.error.message);
-      }
     } catch (err: any) {
       setError(err.message);
     } finally {
@@ -92,6 +126,10 @@ function ProjectDetailContent() {
     }
   }, [projectId]);
 
+  useEffect(() => {
+    fetchActivities();
+  }, [fetchActivities]);
+
   useEffect(() => {
     if (projectId) fetchProjectData();
     
@@ -101,6 +139,7 @@ function ProjectDetailContent() {
     
       if (updatedProjectId === projectId) {
         fetchProjectData(false);
+        fetchActivities();
       }
     };
 
@@ -109,10 +148,13 @@ function ProjectDetailContent() {
     return () => {
         window.removeEventListener('projectDataShouldRefresh', handleProjectUpdate as EventListener);
     };
-  }, [projectId, fetchProjectData]);
+  }, [projectId, fetchProjectData, fetchActivities]);
 
   useRevalidateOnFocus(fetchProjectData);
-  const handleDataChange = () => fetchProjectData(false);
+  const handleDataChange = () => {
+    fetchProjectData(false);
+    fetchActivities();
+  };
   const handleTaskStatusChange = async (taskId: string | number, newStatus: Status) => {
     const originalTasks = project?.tasks || [];
     
@@ -258,12 +300,6 @@ function ProjectDetailContent() {
     default: displayProjectStatus = "알 수 없음";
   }
 
-  const filteredActivities = activities.filter(activity => {
-    const userMatch = activityUserFilter === "all" || activity.userId?.toString() === activityUserFilter;
-    const typeMatch = activityTypeFilter === "all" || activity.type?.startsWith(activityTypeFilter);
-    return userMatch && typeMatch;
-  });
-  const displayedActivities = showAllActivities ? filteredActivities : filteredActivities.slice(0, 10);
   
   return (
     <div className="space-y-6 p-4 md:p-6">
@@ -496,8 +532,8 @@ function ProjectDetailContent() {
             </CardHeader>
             <CardContent>
               <div className="space-y-4">
-                {displayedActivities.length > 0 ? (
-                  displayedActivities.map((activity) => (
+                {activities.length > 0 ? (
+                  activities.map((activity) => (
                     <div key={activity.id} className="flex items-start gap-3">
                       <Avatar className="h-9 w-9">
                         <AvatarImage src={activity.userAvatarUrl || undefined} />
@@ -516,14 +552,15 @@ function ProjectDetailContent() {
                   <p className="text-sm text-muted-foreground text-center py-4">활동 내역이 없습니다.</p>
                 )}
               </div>
-              {activities.length > 10 && (
+              {hasMoreActivities && (
                 <div className="mt-4 text-center">
                   <Button
                     variant="ghost"
                     size="sm"
-                    onClick={() => setShowAllActivities(!showAllActivities)}
+                    onClick={loadMoreActivities}
+                    disabled={isLoadingMoreActivities}
                   >
-                    {showAllActivities ? "간략히 보기" : `모든 활동 내역 보기 (${activities.length}개)`}
+                    {isLoadingMoreActivities ? <Loader2 className="h-4 w-4 animate-spin" /> : "이전 활동 더 보기"}
                   </Button>
                 </div>
               )}
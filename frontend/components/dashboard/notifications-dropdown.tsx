@@ -66,7 +66,7 @@ export function NotificationsDropdown() {
         onmessage(event) {
           if (event.event === 'new-notification') {
             const newNotification = JSON.parse(event.data);
-            setNotifications(prev => [newNotification, ...prev]);
+            setNotifications(prev => [newNotification, ...prev.filter(n => n.id !== newNotification.id)]);
           }
           if (event.event === 'project-updated'){
             const data = JSON.parse(event.data);
@@ -162,10 +162,15 @@ export function NotificationsDropdown() {
                   <AvatarFallback>{getInitials(notification.user?.name)}</AvatarFallback>
                 </Avatar>
                 <div className="flex flex-col gap-1 text-xs">
-                  <p className="font-semibold text-sm leading-none">{notification.title}</p>
+                  <p className="font-semibold text-sm leading-none">
+                    {notification.title}
+                    {(notification.count ?? 1) > 1 && (
+                      <span className="ml-1 font-normal text-muted-foreground">({notification.count}건의 업데이트)</span>
+                    )}
+                  </p>
                   <p className="text-muted-foreground" dangerouslySetInnerHTML={{ __html: notification.description }} />
                   <p className="text-muted-foreground">
-                    {formatCommentTimestamp(notification.createdAt)}
+                    {formatCommentTimestamp(notification.updatedAt ?? notification.createdAt)}
                   </p>
                 </div>
               </DropdownMenuItem>
@@ -5,6 +5,7 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "@/com
 import { Switch } from "@/components/ui/switch"
 import { Label } from "@/components/ui/label"
 import { Button } from "@/components/ui/button"
+import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "@/components/ui/select"
 import { useToast } from "@/hooks/use-toast"
 import { ApiNotificationSettings } from "@/lib/types"
 import { apiCall } from "@/lib/api"
@@ -35,6 +36,10 @@ export function NotificationSettings() {
     setSettings(prev => prev ? { ...prev, [setting]: !prev[setting] } : null);
   };
 
+  const handleDeliveryHourChange = (value: string) => {
+    setSettings(prev => prev ? { ...prev, deliveryHour: value === "auto" ? null : Number(value) } : null);
+  };
+
   const handleSave = async () => {
     if (!settings) return;
     setIsSaving(true);
@@ -163,6 +168,27 @@ export function NotificationSettings() {
               onCheckedChange={() => handleToggle("weeklyDigest")}
             />
           </div>
+
+          <div className="flex items-center justify-between">
+            <Label htmlFor="delivery-hour" className="flex flex-col space-y-1">
+              <span>받는 시각</span>
+              <span className="font-normal text-sm text-muted-foreground">요약 이메일과 마감 알림을 받을 시간대</span>
+            </Label>
+            <Select
+              value={settings.deliveryHour === null || settings.deliveryHour === undefined ? "auto" : String(settings.deliveryHour)}
+              onValueChange={handleDeliveryHourChange}
+            >
+              <SelectTrigger id="delivery-hour" className="w-32">
+                <SelectValue placeholder="자동" />
+              </SelectTrigger>
+              <SelectContent>
+                <SelectItem value="auto">자동 (오전)</SelectItem>
+                {Array.from({ length: 24 }, (_, hour) => (
+                  <SelectItem key={hour} value={String(hour)}>{hour}시</SelectItem>
+                ))}
+              </SelectContent>
+            </Select>
+          </div>
         </div>
 
         <Button onClick={handleSave} disabled={isLoading} className="w-full">
@@ -79,6 +79,7 @@ export interface ApiNotificationSettings {
   projectInvitation: boolean;
   dailyDigest: boolean;
   weeklyDigest: boolean;
+  deliveryHour: number | null;
 }
 
 export interface ApiNotification {
@@ -89,6 +90,8 @@ export interface ApiNotification {
   link: string;
   isRead: boolean;
   createdAt: string;
+  updatedAt?: string;
+  count?: number;
   user: {
     name: string;
     avatarUrl?: string | null;